@@ -0,0 +1,63 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.marschall.jsonnodereader.JsonNodeJsonObjectBuilder;
+import com.github.marschall.jsonnodereader.JsonNodeValues;
+
+import jakarta.json.JsonObject;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * Compares adding a member to the {@link Document#MEDIUM} document with
+ * {@link JsonNodeJsonObjectBuilder} against a builder of the default provider.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuilderBenchmarks {
+
+  private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+  private JsonObject jsonObject;
+
+  @Setup
+  public void setup() {
+    this.jsonObject = JsonNodeValues.asJsonObject(Document.MEDIUM.create());
+  }
+
+  /**
+   * Records the added member on top of the Jackson tree.
+   */
+  @Benchmark
+  public JsonObject overlay() {
+    return new JsonNodeJsonObjectBuilder(this.jsonObject)
+            .add("enriched", true)
+            .build();
+  }
+
+  /**
+   * Copies the members into a builder of the default provider.
+   */
+  @Benchmark
+  public JsonObject defaultProvider() {
+    return PROVIDER.createObjectBuilder(this.jsonObject)
+            .add("enriched", true)
+            .build();
+  }
+
+}
@@ -0,0 +1,87 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParser;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParserPool;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Measures the cost per event of traversing many small nested containers.
+ * <p>
+ * Every operation is a single event so with {@code -prof gc} the
+ * {@code gc.alloc.rate.norm} is the number of bytes allocated per event.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CursorBenchmarks {
+
+  private static final int OBJECTS = 1000;
+
+  // [{"a":1,"b":{"c":true,"d":[1]}}, ...]
+  private static final int EVENTS = 2 + OBJECTS * 13;
+
+  private JsonNode jsonNode;
+
+  private JsonNodeJsonParserPool pool;
+
+  @Setup
+  public void setup() {
+    JsonNodeFactory factory = JsonNodeFactory.instance;
+    ArrayNode root = factory.arrayNode();
+    for (int i = 0; i < OBJECTS; i++) {
+      ObjectNode object = root.addObject();
+      object.put("a", i);
+      ObjectNode nested = object.putObject("b");
+      nested.put("c", true);
+      nested.putArray("d").add(i);
+    }
+    this.jsonNode = root;
+    this.pool = new JsonNodeJsonParserPool();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void traverse(Blackhole blackhole) {
+    try (JsonParser parser = new JsonNodeJsonParser(this.jsonNode)) {
+      traverse(parser, blackhole);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public void traversePooled(Blackhole blackhole) {
+    try (JsonParser parser = this.pool.createParser(this.jsonNode)) {
+      traverse(parser, blackhole);
+    }
+  }
+
+  private static void traverse(JsonParser parser, Blackhole blackhole) {
+    while (parser.hasNext()) {
+      blackhole.consume(parser.next());
+    }
+  }
+
+}
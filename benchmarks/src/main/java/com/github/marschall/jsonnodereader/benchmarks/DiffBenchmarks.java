@@ -0,0 +1,89 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.marschall.jsonnodereader.JsonNodeJsonDiff;
+import com.github.marschall.jsonnodereader.JsonNodeValues;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonPatch;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * Compares {@link JsonNodeJsonDiff} with the diff of the default provider on
+ * two snapshots of an array of records that differ in a few records.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiffBenchmarks {
+
+  private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+  /**
+   * The number of records in the document, about 130 bytes each.
+   */
+  @Param({"2000"})
+  public int records;
+
+  private ArrayNode source;
+
+  private ArrayNode target;
+
+  private JsonArray sourceArray;
+
+  private JsonArray targetArray;
+
+  @Setup
+  public void setup() {
+    JsonNodeFactory factory = JsonNodeFactory.instance;
+    this.source = factory.arrayNode(this.records);
+    for (int i = 0; i < this.records; i++) {
+      this.source.add(Document.record(factory, i));
+    }
+    // the next snapshot is parsed again, no subtrees are shared
+    this.target = this.source.deepCopy();
+    for (int i = 0; i < this.records; i += this.records / 10) {
+      ((ObjectNode) this.target.get(i)).put("active", false);
+    }
+    this.target.remove(this.records / 3);
+    this.target.insert(this.records / 2, Document.record(factory, -1));
+    this.sourceArray = JsonNodeValues.asJsonArray(this.source);
+    this.targetArray = JsonNodeValues.asJsonArray(this.target);
+  }
+
+  /**
+   * Diffs the Jackson trees using subtree hash codes.
+   */
+  @Benchmark
+  public JsonPatch subtreeHashing() {
+    return JsonNodeJsonDiff.diff(this.source, this.target);
+  }
+
+  /**
+   * Diffs the views with the default provider.
+   */
+  @Benchmark
+  public JsonPatch defaultProvider() {
+    return PROVIDER.createDiff(this.sourceArray, this.targetArray);
+  }
+
+}
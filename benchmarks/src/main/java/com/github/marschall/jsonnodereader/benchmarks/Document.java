@@ -0,0 +1,122 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The documents the benchmarks run against.
+ */
+public enum Document {
+
+  /**
+   * A single object with a handful of scalar properties, typical of a request payload.
+   */
+  SMALL {
+
+    @Override
+    JsonNode create(JsonNodeFactory factory) {
+      return record(factory, 0);
+    }
+
+  },
+
+  /**
+   * An object holding an array of 100 small nested records.
+   */
+  MEDIUM {
+
+    @Override
+    JsonNode create(JsonNodeFactory factory) {
+      ObjectNode root = factory.objectNode();
+      root.put("id", "medium");
+      root.put("count", 100);
+      ArrayNode items = root.putArray("items");
+      for (int i = 0; i < 100; i++) {
+        ObjectNode item = record(factory, i);
+        item.set("tags", factory.arrayNode().add("a").add("b").add("c"));
+        items.add(item);
+      }
+      return root;
+    }
+
+  },
+
+  /**
+   * A single object with 2000 properties, some of them small nested structures.
+   */
+  WIDE {
+
+    @Override
+    JsonNode create(JsonNodeFactory factory) {
+      ObjectNode root = factory.objectNode();
+      for (int i = 0; i < 2000; i++) {
+        String key = "key" + i;
+        switch (i % 4) {
+          case 0 -> root.put(key, "value" + i);
+          case 1 -> root.put(key, i);
+          case 2 -> root.set(key, record(factory, i));
+          case 3 -> root.set(key, factory.arrayNode().add(i).add(i + 1L).add(i * 0.5d));
+          default -> throw new IllegalStateException();
+        }
+      }
+      return root;
+    }
+
+  },
+
+  /**
+   * Objects and arrays alternately nested 200 levels deep.
+   */
+  DEEP {
+
+    @Override
+    JsonNode create(JsonNodeFactory factory) {
+      JsonNode current = record(factory, 0);
+      for (int i = 0; i < 200; i++) {
+        if (i % 2 == 0) {
+          ArrayNode array = factory.arrayNode();
+          array.add(i);
+          array.add(current);
+          current = array;
+        } else {
+          ObjectNode object = factory.objectNode();
+          object.put("level", i);
+          object.set("child", current);
+          current = object;
+        }
+      }
+      // the root of every document is an object
+      ObjectNode root = factory.objectNode();
+      root.set("root", current);
+      return root;
+    }
+
+  };
+
+  abstract JsonNode create(JsonNodeFactory factory);
+
+  /**
+   * Creates the document using {@link java.math.BigDecimal} for floating point numbers.
+   * 
+   * @return the Jackson tree of the document
+   */
+  public JsonNode create() {
+    return this.create(JsonNodeFactory.instance);
+  }
+
+  static ObjectNode record(JsonNodeFactory factory, int i) {
+    ObjectNode record = factory.objectNode();
+    record.put("id", i);
+    record.put("name", "name" + i);
+    record.put("active", (i % 2) == 0);
+    record.set("score", factory.numberNode(new BigDecimal("12.5")));
+    record.putNull("comment");
+    record.put("timestamp", 1_700_000_000_000L + i);
+    return record;
+  }
+
+}
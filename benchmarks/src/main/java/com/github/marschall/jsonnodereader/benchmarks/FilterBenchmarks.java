@@ -0,0 +1,109 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.marschall.jsonnodereader.JsonNodeFilter;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParser;
+import com.github.marschall.jsonnodereader.JsonNodeJsonProvider;
+
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Compares reading a few members of a wide object through
+ * {@link JsonNodeFilter} with skipping the other members in the consumer.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterBenchmarks {
+
+  private static final List<String> SELECTED = List.of("field7", "field250", "field999", "field1500", "field1999");
+
+  /**
+   * The number of members of the object, each a record.
+   */
+  @Param({"2000"})
+  public int fields;
+
+  private ObjectNode root;
+
+  private JsonNodeFilter filter;
+
+  private Set<String> selected;
+
+  private JsonNodeJsonProvider provider;
+
+  @Setup
+  public void setup() {
+    JsonNodeFactory factory = JsonNodeFactory.instance;
+    this.root = factory.objectNode();
+    for (int i = 0; i < this.fields; i++) {
+      this.root.set("field" + i, Document.record(factory, i));
+    }
+    this.filter = JsonNodeFilter.ofKeyPaths(SELECTED);
+    this.selected = Set.copyOf(SELECTED);
+    this.provider = new JsonNodeJsonProvider();
+  }
+
+  /**
+   * Parses only the selected members.
+   */
+  @Benchmark
+  public void filtered(Blackhole blackhole) {
+    try (JsonParser parser = this.provider.createParser(this.root, this.filter)) {
+      while (parser.hasNext()) {
+        blackhole.consume(parser.next());
+      }
+    }
+  }
+
+  /**
+   * Parses every member and skips the ones that are not selected.
+   */
+  @Benchmark
+  public void consumerSkipping(Blackhole blackhole) {
+    try (JsonParser parser = new JsonNodeJsonParser(this.root)) {
+      int depth = 0;
+      while (parser.hasNext()) {
+        Event event = parser.next();
+        if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+          depth += 1;
+        } else if (event == Event.END_OBJECT || event == Event.END_ARRAY) {
+          depth -= 1;
+        } else if (event == Event.KEY_NAME && depth == 1 && !this.selected.contains(parser.getString())) {
+          Event value = parser.next();
+          if (value == Event.START_OBJECT) {
+            parser.skipObject();
+          } else if (value == Event.START_ARRAY) {
+            parser.skipArray();
+          }
+          continue;
+        }
+        blackhole.consume(event);
+      }
+    }
+  }
+
+}
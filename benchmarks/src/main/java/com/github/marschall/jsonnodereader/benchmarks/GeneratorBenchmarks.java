@@ -0,0 +1,147 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.marschall.jsonnodereader.JsonNodeJsonGenerator;
+import com.github.marschall.jsonnodereader.JsonNodeValues;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+/**
+ * Compares building a Jackson tree with {@link JsonNodeJsonGenerator} against
+ * generating a {@link String} with Parsson and reading it with Jackson.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorBenchmarks {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(null);
+
+  @Param
+  public Document document;
+
+  private JsonNode jsonNode;
+
+  private JsonValue jsonValue;
+
+  @Setup
+  public void setup() {
+    this.jsonNode = this.document.create();
+    this.jsonValue = JsonNodeValues.adapt(this.jsonNode);
+  }
+
+  /**
+   * Generates every event with {@link JsonNodeJsonGenerator}.
+   */
+  @Benchmark
+  public JsonNode generateEvents() {
+    JsonNodeJsonGenerator generator = new JsonNodeJsonGenerator();
+    writeEvents(this.jsonNode, generator);
+    generator.close();
+    return generator.getResult();
+  }
+
+  /**
+   * Generates every event into a {@link String} and reads it with Jackson.
+   */
+  @Benchmark
+  public JsonNode generateEventsRoundTrip() throws JacksonException {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = GENERATOR_FACTORY.createGenerator(writer)) {
+      writeEvents(this.jsonNode, generator);
+    }
+    return OBJECT_MAPPER.readTree(writer.toString());
+  }
+
+  /**
+   * Writes a {@link JsonValue} view with {@link JsonNodeJsonGenerator}.
+   */
+  @Benchmark
+  public JsonNode writeValue() {
+    JsonNodeJsonGenerator generator = new JsonNodeJsonGenerator();
+    generator.write(this.jsonValue).close();
+    return generator.getResult();
+  }
+
+  /**
+   * Writes a {@link JsonValue} view into a {@link String} and reads it with Jackson.
+   */
+  @Benchmark
+  public JsonNode writeValueRoundTrip() throws JacksonException {
+    StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = GENERATOR_FACTORY.createGenerator(writer)) {
+      generator.write(this.jsonValue);
+    }
+    return OBJECT_MAPPER.readTree(writer.toString());
+  }
+
+  /**
+   * Emits the events of a Jackson tree, simulating JSON-P producer code.
+   */
+  private static void writeEvents(JsonNode node, JsonGenerator generator) {
+    switch (node.getNodeType()) {
+      case OBJECT -> {
+        generator.writeStartObject();
+        Iterator<Entry<String, JsonNode>> properties = node.fields();
+        while (properties.hasNext()) {
+          Entry<String, JsonNode> property = properties.next();
+          generator.writeKey(property.getKey());
+          writeEvents(property.getValue(), generator);
+        }
+        generator.writeEnd();
+      }
+      case ARRAY -> {
+        generator.writeStartArray();
+        for (int i = 0; i < node.size(); i++) {
+          writeEvents(node.get(i), generator);
+        }
+        generator.writeEnd();
+      }
+      case STRING -> generator.write(node.textValue());
+      case NUMBER -> {
+        switch (node.numberType()) {
+          case INT -> generator.write(node.intValue());
+          case LONG -> generator.write(node.longValue());
+          case BIG_INTEGER -> generator.write(node.bigIntegerValue());
+          default -> generator.write(node.decimalValue());
+        }
+      }
+      case BOOLEAN -> generator.write(node.booleanValue());
+      case NULL -> generator.writeNull();
+      default -> throw new IllegalArgumentException("unsupported node type");
+    }
+  }
+
+}
@@ -0,0 +1,72 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.marschall.jsonnodereader.JsonNodeValues;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+/**
+ * Compares repeated navigation of the same paths through live and
+ * memoizing views, simulating a template rendering the {@link Document#MEDIUM}
+ * document.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation rate per operation.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoizationBenchmarks {
+
+  private JsonObject live;
+
+  private JsonObject memoizing;
+
+  @Setup
+  public void setup() {
+    JsonNode jsonNode = Document.MEDIUM.create();
+    this.live = JsonNodeValues.asJsonObject(jsonNode);
+    this.memoizing = (JsonObject) JsonNodeValues.adaptMemoizing(jsonNode);
+  }
+
+  @Benchmark
+  public void live(Blackhole blackhole) {
+    render(this.live, blackhole);
+  }
+
+  @Benchmark
+  public void memoizing(Blackhole blackhole) {
+    render(this.memoizing, blackhole);
+  }
+
+  private static void render(JsonObject root, Blackhole blackhole) {
+    int size = root.getJsonArray("items").size();
+    for (int i = 0; i < size; i++) {
+      // every property is looked up from the root like a template would
+      blackhole.consume(root.getJsonArray("items").getJsonObject(i).getString("name"));
+      blackhole.consume(root.getJsonArray("items").getJsonObject(i).getJsonNumber("score"));
+      JsonArray tags = root.getJsonArray("items").getJsonObject(i).getJsonArray("tags");
+      for (int j = 0; j < tags.size(); j++) {
+        blackhole.consume(tags.getJsonString(j));
+      }
+    }
+  }
+
+}
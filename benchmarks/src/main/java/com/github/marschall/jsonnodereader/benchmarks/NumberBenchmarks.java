@@ -0,0 +1,97 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.math.BigDecimal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParser;
+
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Compares reading number-heavy arrays through {@link JsonNodeJsonParser#getBigDecimal()}
+ * with the primitive accessors of {@link com.github.marschall.jsonnodereader.PrimitiveJsonParser}.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumberBenchmarks {
+
+  private static final int SIZE = 10_000;
+
+  /**
+   * How the numbers are stored in the Jackson tree.
+   */
+  public enum Representation {
+    INT, DOUBLE, BIG_DECIMAL
+  }
+
+  @Param
+  public Representation representation;
+
+  private JsonNode jsonNode;
+
+  @Setup
+  public void setup() {
+    JsonNodeFactory factory = JsonNodeFactory.instance;
+    ArrayNode array = factory.arrayNode(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      switch (this.representation) {
+        case INT -> array.add(i);
+        case DOUBLE -> array.add(i + 0.25d);
+        case BIG_DECIMAL -> array.add(BigDecimal.valueOf(i).add(new BigDecimal("0.25")));
+        default -> throw new IllegalStateException();
+      }
+    }
+    this.jsonNode = array;
+  }
+
+  @Benchmark
+  public double bigDecimal() {
+    double sum = 0.0d;
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(this.jsonNode)) {
+      while (parser.hasNext()) {
+        if (parser.next() == Event.VALUE_NUMBER) {
+          sum += parser.getBigDecimal().doubleValue();
+        }
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double primitive() {
+    double sum = 0.0d;
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(this.jsonNode)) {
+      while (parser.hasNext()) {
+        if (parser.next() == Event.VALUE_NUMBER) {
+          sum += switch (parser.getNumberKind()) {
+            case INT -> parser.getInt();
+            case LONG -> parser.getLong();
+            default -> parser.getDouble();
+          };
+        }
+      }
+    }
+    return sum;
+  }
+
+}
@@ -0,0 +1,105 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParser;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Measures how parallel streams over a large array scale with the number of threads.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmarks {
+
+  private static final int SIZE = 1_000_000;
+
+  @Param({"1", "2", "4", "8"})
+  public int parallelism;
+
+  private ForkJoinPool pool;
+
+  private JsonNode jsonNode;
+
+  private JsonArray jsonArray;
+
+  @Setup
+  public void setup() {
+    this.pool = new ForkJoinPool(this.parallelism);
+    JsonNodeFactory factory = JsonNodeFactory.instance;
+    ArrayNode array = factory.arrayNode(SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      if (i % 2 == 0) {
+        array.add(i);
+      } else {
+        array.add("value" + i);
+      }
+    }
+    this.jsonNode = array;
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(array)) {
+      parser.next();
+      this.jsonArray = parser.getArray();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.pool.shutdown();
+  }
+
+  @Benchmark
+  public long jsonArray() {
+    return this.pool.submit(() -> this.jsonArray.parallelStream()
+        .mapToLong(ParallelStreamBenchmarks::weight)
+        .sum())
+      .join();
+  }
+
+  @Benchmark
+  public long parser() {
+    return this.pool.submit(() -> {
+      try (JsonNodeJsonParser parser = new JsonNodeJsonParser(this.jsonNode)) {
+        parser.next();
+        return parser.getParallelArrayStream()
+          .mapToLong(ParallelStreamBenchmarks::weight)
+          .sum();
+      }
+    })
+      .join();
+  }
+
+  private static long weight(JsonValue value) {
+    return switch (value) {
+      case JsonNumber number -> number.longValue();
+      case JsonString string -> string.getString().hashCode();
+      default -> 0L;
+    };
+  }
+
+}
@@ -0,0 +1,114 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.marschall.jsonnodereader.benchmarks.ParserSource.Input;
+
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Compares {@link com.github.marschall.jsonnodereader.JsonNodeJsonParser} against
+ * Parsson and serialize-and-reparse.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation rate per operation.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmarks {
+
+  @Param
+  public Document document;
+
+  @Param
+  public ParserSource source;
+
+  private Input input;
+
+  @Setup
+  public void setup() {
+    this.input = new Input(this.document);
+  }
+
+  /**
+   * Reads every event and every scalar value of the document.
+   */
+  @Benchmark
+  public void traverse(Blackhole blackhole) {
+    try (JsonParser parser = this.input.createParser(this.source)) {
+      while (parser.hasNext()) {
+        Event event = parser.next();
+        switch (event) {
+          case KEY_NAME, VALUE_STRING -> blackhole.consume(parser.getString());
+          case VALUE_NUMBER -> {
+            if (parser.isIntegralNumber()) {
+              blackhole.consume(parser.getLong());
+            } else {
+              blackhole.consume(parser.getBigDecimal());
+            }
+          }
+          default -> blackhole.consume(event);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the properties of the root object skipping all nested structures.
+   */
+  @Benchmark
+  public void skip(Blackhole blackhole) {
+    try (JsonParser parser = this.input.createParser(this.source)) {
+      parser.next(); // START_OBJECT
+      while (parser.hasNext()) {
+        Event event = parser.next();
+        switch (event) {
+          case START_OBJECT -> parser.skipObject();
+          case START_ARRAY -> parser.skipArray();
+          case KEY_NAME -> blackhole.consume(parser.getString());
+          default -> blackhole.consume(event);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the properties of the root object materializing all nested structures.
+   */
+  @Benchmark
+  public void getStructure(Blackhole blackhole) {
+    try (JsonParser parser = this.input.createParser(this.source)) {
+      parser.next(); // START_OBJECT
+      String key = null;
+      while (parser.hasNext()) {
+        Event event = parser.next();
+        switch (event) {
+          case START_OBJECT, START_ARRAY -> blackhole.consume(this.input.readStructure(this.source, parser, event, key).getValueType());
+          case KEY_NAME -> {
+            key = parser.getString();
+            blackhole.consume(key);
+          }
+          default -> blackhole.consume(event);
+        }
+      }
+    }
+  }
+
+}
@@ -0,0 +1,142 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import java.io.StringReader;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParser;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParserPool;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+
+/**
+ * The different ways to get a Jakarta {@link JsonParser} over a document.
+ */
+public enum ParserSource {
+
+  /**
+   * {@link JsonNodeJsonParser} directly over the Jackson tree.
+   */
+  JSON_NODE {
+
+    @Override
+    JsonParser createParser(Input input) {
+      return new JsonNodeJsonParser(input.jsonNode);
+    }
+
+  },
+
+  /**
+   * {@link JsonNodeJsonParser} obtained from a {@link JsonNodeJsonParserPool}.
+   */
+  JSON_NODE_POOLED {
+
+    @Override
+    JsonParser createParser(Input input) {
+      return POOL.get().createParser(input.jsonNode);
+    }
+
+  },
+
+  /**
+   * Parsson {@link JsonParserFactory#createParser(JsonObject)} over an equivalent JSON-P tree.
+   */
+  JSON_STRUCTURE {
+
+    @Override
+    JsonParser createParser(Input input) {
+      return PARSER_FACTORY.createParser(input.jsonObject);
+    }
+
+    @Override
+    JsonStructure readStructure(JsonParser parser, Event event, Input input, String key) {
+      // JsonStructureParser does not support #getObject() and #getArray()
+      // a caller holding the JSON-P tree would look the value up instead
+      JsonStructure structure = (JsonStructure) input.jsonObject.get(key);
+      if (event == Event.START_OBJECT) {
+        parser.skipObject();
+      } else {
+        parser.skipArray();
+      }
+      return structure;
+    }
+
+  },
+
+  /**
+   * Serialize the Jackson tree to a {@link String} and re-parse it with JSON-P.
+   */
+  REPARSE {
+
+    @Override
+    JsonParser createParser(Input input) {
+      String json;
+      try {
+        json = OBJECT_MAPPER.writeValueAsString(input.jsonNode);
+      } catch (JsonProcessingException e) {
+        throw new IllegalStateException("could not serialize JsonNode", e);
+      }
+      return Json.createParser(new StringReader(json));
+    }
+
+  };
+
+  static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+      .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+      .build();
+
+  static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(null);
+
+  static final ThreadLocal<JsonNodeJsonParserPool> POOL = ThreadLocal.withInitial(JsonNodeJsonParserPool::new);
+
+  abstract JsonParser createParser(Input input);
+
+  JsonStructure readStructure(JsonParser parser, Event event, Input input, String key) {
+    if (event == Event.START_OBJECT) {
+      return parser.getObject();
+    } else {
+      return parser.getArray();
+    }
+  }
+
+  /**
+   * Holds a document in all representations needed by a {@link ParserSource}.
+   */
+  public static final class Input {
+
+    final JsonNode jsonNode;
+
+    final JsonObject jsonObject;
+
+    /**
+     * Creates the inputs for a document.
+     * 
+     * @param document the document to prepare
+     */
+    public Input(Document document) {
+      this.jsonNode = document.create();
+      try (JsonReader reader = Json.createReader(new StringReader(this.jsonNode.toString()))) {
+        this.jsonObject = reader.readObject();
+      }
+    }
+
+    JsonParser createParser(ParserSource source) {
+      return source.createParser(this);
+    }
+
+    JsonStructure readStructure(ParserSource source, JsonParser parser, Event event, String key) {
+      return source.readStructure(parser, event, this, key);
+    }
+
+  }
+
+}
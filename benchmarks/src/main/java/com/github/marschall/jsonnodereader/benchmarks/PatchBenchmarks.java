@@ -0,0 +1,72 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.marschall.jsonnodereader.JsonNodeJsonPatch;
+import com.github.marschall.jsonnodereader.JsonNodeValues;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * Compares applying a small patch with {@link JsonNodeJsonPatch} against a
+ * patch of the default provider on the {@link Document#MEDIUM} document.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PatchBenchmarks {
+
+  private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+  private JsonObject jsonObject;
+
+  private JsonPatch defaultPatch;
+
+  private JsonNodeJsonPatch sharingPatch;
+
+  @Setup
+  public void setup() {
+    this.jsonObject = JsonNodeValues.asJsonObject(Document.MEDIUM.create());
+    JsonArray operations = PROVIDER.createArrayBuilder()
+            .add(PROVIDER.createObjectBuilder().add("op", "replace").add("path", "/items/50/name").add("value", "patched"))
+            .add(PROVIDER.createObjectBuilder().add("op", "add").add("path", "/items/10/tags/-").add("value", "new"))
+            .add(PROVIDER.createObjectBuilder().add("op", "remove").add("path", "/items/99/score"))
+            .build();
+    this.defaultPatch = PROVIDER.createPatch(operations);
+    this.sharingPatch = new JsonNodeJsonPatch(operations);
+  }
+
+  /**
+   * Copies only the containers on the patched paths.
+   */
+  @Benchmark
+  public JsonObject structuralSharing() {
+    return this.sharingPatch.apply(this.jsonObject);
+  }
+
+  /**
+   * Rebuilds the patched containers through the views with the default provider.
+   */
+  @Benchmark
+  public JsonObject defaultProvider() {
+    return this.defaultPatch.apply(this.jsonObject);
+  }
+
+}
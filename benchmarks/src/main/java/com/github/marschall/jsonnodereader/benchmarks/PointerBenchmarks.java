@@ -0,0 +1,84 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.marschall.jsonnodereader.JsonNodeJsonPointer;
+import com.github.marschall.jsonnodereader.JsonNodeValues;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPointer;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * Compares evaluating fixed pointers with {@link JsonNodeJsonPointer}
+ * against pointers of the default provider on the {@link Document#MEDIUM}
+ * document.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointerBenchmarks {
+
+  private static final String[] POINTERS = {"/id", "/count", "/items/0/name", "/items/50/tags/2", "/items/99/score", "/items/10/timestamp"};
+
+  private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+  private JsonObject jsonObject;
+
+  private JsonPointer[] defaultPointers;
+
+  @Setup
+  public void setup() {
+    this.jsonObject = JsonNodeValues.asJsonObject(Document.MEDIUM.create());
+    this.defaultPointers = new JsonPointer[POINTERS.length];
+    for (int i = 0; i < POINTERS.length; i++) {
+      this.defaultPointers[i] = PROVIDER.createPointer(POINTERS[i]);
+    }
+  }
+
+  /**
+   * Compiles the pointers through the cache and resolves them on the Jackson tree.
+   */
+  @Benchmark
+  public void compiled(Blackhole blackhole) {
+    for (String pointer : POINTERS) {
+      blackhole.consume(JsonNodeJsonPointer.compile(pointer).getValue(this.jsonObject));
+    }
+  }
+
+  /**
+   * Creates the pointers with the default provider and resolves them through the views.
+   */
+  @Benchmark
+  public void defaultProvider(Blackhole blackhole) {
+    for (String pointer : POINTERS) {
+      blackhole.consume(PROVIDER.createPointer(pointer).getValue(this.jsonObject));
+    }
+  }
+
+  /**
+   * Resolves pointers of the default provider created once through the views.
+   */
+  @Benchmark
+  public void defaultProviderPrecompiled(Blackhole blackhole) {
+    for (JsonPointer pointer : this.defaultPointers) {
+      blackhole.consume(pointer.getValue(this.jsonObject));
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+package com.github.marschall.jsonnodereader.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.github.marschall.jsonnodereader.JsonNodeValues;
+
+import jakarta.json.JsonValue;
+
+/**
+ * Compares writing a multi-MB {@link JsonValue} view with
+ * {@link JsonNodeValues#writeTo(JsonValue, OutputStream)} against
+ * encoding its {@link Object#toString()}.
+ */
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteBenchmarks {
+
+  /**
+   * The number of records in the document, about 130 bytes each.
+   */
+  @Param({"10000", "50000"})
+  public int records;
+
+  private JsonValue jsonValue;
+
+  private OutputStream outputStream;
+
+  private Writer writer;
+
+  @Setup
+  public void setup() {
+    JsonNodeFactory factory = JsonNodeFactory.instance;
+    ArrayNode array = factory.arrayNode(this.records);
+    for (int i = 0; i < this.records; i++) {
+      array.add(Document.record(factory, i));
+    }
+    this.jsonValue = JsonNodeValues.adapt(array);
+    this.outputStream = OutputStream.nullOutputStream();
+    this.writer = Writer.nullWriter();
+  }
+
+  /**
+   * Writes the view directly to an {@link OutputStream}.
+   */
+  @Benchmark
+  public void writeToOutputStream() throws IOException {
+    JsonNodeValues.writeTo(this.jsonValue, this.outputStream);
+  }
+
+  /**
+   * Writes the view directly to a {@link Writer}.
+   */
+  @Benchmark
+  public void writeToWriter() throws IOException {
+    JsonNodeValues.writeTo(this.jsonValue, this.writer);
+  }
+
+  /**
+   * Encodes {@link Object#toString()} and writes the bytes to an {@link OutputStream}.
+   */
+  @Benchmark
+  public void toStringOutputStream() throws IOException {
+    this.outputStream.write(this.jsonValue.toString().getBytes(UTF_8));
+  }
+
+}
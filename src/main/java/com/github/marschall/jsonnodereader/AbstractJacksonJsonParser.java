@@ -0,0 +1,273 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * Base class for Jakarta parsers working on Jackson tokens, implements
+ * everything that only depends on the current token.
+ */
+abstract class AbstractJacksonJsonParser implements PrimitiveJsonParser {
+
+  final com.fasterxml.jackson.core.JsonParser parser;
+  Event currentEvent;
+
+  AbstractJacksonJsonParser(com.fasterxml.jackson.core.JsonParser parser) {
+    Objects.requireNonNull(parser, "parser");
+    this.parser = parser;
+  }
+
+  Event toEvent(JsonToken token) {
+    return switch (token) {
+      case START_OBJECT -> Event.START_OBJECT;
+      case END_OBJECT -> Event.END_OBJECT;
+      case START_ARRAY -> Event.START_ARRAY;
+      case END_ARRAY -> Event.END_ARRAY;
+      case FIELD_NAME -> Event.KEY_NAME;
+      case VALUE_STRING -> Event.VALUE_STRING;
+      case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> Event.VALUE_NUMBER;
+      case VALUE_TRUE -> Event.VALUE_TRUE;
+      case VALUE_FALSE -> Event.VALUE_FALSE;
+      case VALUE_NULL -> Event.VALUE_NULL;
+      default -> throw new JsonParsingException("unsupported token: " + token, this.getLocation());
+    };
+  }
+
+  JsonException toJsonException(IOException e) {
+    if (e instanceof StreamReadException) {
+      return new JsonParsingException(e.getMessage(), e, this.getLocation());
+    } else {
+      return new JsonException("I/O error while parsing JSON", e);
+    }
+  }
+
+  /**
+   * Whether the root value has been completely read.
+   */
+  boolean isRootComplete() {
+    if (this.currentEvent == null) {
+      return false;
+    }
+    return switch (this.currentEvent) {
+      case END_OBJECT, END_ARRAY, VALUE_STRING, VALUE_NUMBER, VALUE_TRUE, VALUE_FALSE, VALUE_NULL -> isInRoot(this.parser.getParsingContext());
+      default -> false;
+    };
+  }
+
+  static boolean isInRoot(JsonStreamContext context) {
+    return context == null || context.inRoot();
+  }
+
+  /**
+   * Returns the {@link JsonValue} for the current scalar event.
+   */
+  JsonValue getScalarValue() {
+    try {
+      return switch (this.currentEvent) {
+        case KEY_NAME -> new JsonNodeJsonString(TextNode.valueOf(this.parser.currentName()));
+        case VALUE_STRING -> new JsonNodeJsonString(TextNode.valueOf(this.parser.getText()));
+        case VALUE_NUMBER -> new JsonNodeJsonNumber(this.numberNode());
+        case VALUE_TRUE -> JsonValue.TRUE;
+        case VALUE_FALSE -> JsonValue.FALSE;
+        case VALUE_NULL -> JsonValue.NULL;
+        default -> throw new IllegalStateException("not a scalar value");
+      };
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  /**
+   * Same as {@link com.fasterxml.jackson.core.JsonParser#getNumberType()} but
+   * does not parse floating point numbers. With Jackson 2.18.1 calling
+   * {@code getNumberType()} on a floating point number makes
+   * {@code getDoubleValue()} return the same value for the next floating
+   * point number.
+   */
+  private NumberType numberType() throws IOException {
+    if (this.parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+      return NumberType.DOUBLE;
+    }
+    return this.parser.getNumberType();
+  }
+
+  private JsonNode numberNode() throws IOException {
+    return switch (this.numberType()) {
+      case INT -> IntNode.valueOf(this.parser.getIntValue());
+      case LONG -> LongNode.valueOf(this.parser.getLongValue());
+      case BIG_INTEGER -> BigIntegerNode.valueOf(this.parser.getBigIntegerValue());
+      default -> DecimalNode.valueOf(this.parser.getDecimalValue());
+    };
+  }
+
+  private void checkNumber() {
+    if (this.currentEvent != Event.VALUE_NUMBER) {
+      throw new IllegalStateException("current state is not a number");
+    }
+  }
+
+  @Override
+  public String getString() {
+    if (this.currentEvent != Event.KEY_NAME && this.currentEvent != Event.VALUE_STRING && this.currentEvent != Event.VALUE_NUMBER) {
+      throw new IllegalStateException("getString() not supported in current state");
+    }
+    try {
+      return this.parser.getText();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public boolean isIntegralNumber() {
+    this.checkNumber();
+    return this.parser.currentToken() == JsonToken.VALUE_NUMBER_INT;
+  }
+
+  @Override
+  public int getInt() {
+    this.checkNumber();
+    try {
+      // JSON-P truncates instead of failing on overflow
+      return switch (this.numberType()) {
+        case INT -> this.parser.getIntValue();
+        case LONG -> (int) this.parser.getLongValue();
+        case BIG_INTEGER -> this.parser.getBigIntegerValue().intValue();
+        default -> this.parser.getDecimalValue().intValue();
+      };
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public long getLong() {
+    this.checkNumber();
+    try {
+      // JSON-P truncates instead of failing on overflow
+      return switch (this.numberType()) {
+        case INT, LONG -> this.parser.getLongValue();
+        case BIG_INTEGER -> this.parser.getBigIntegerValue().longValue();
+        default -> this.parser.getDecimalValue().longValue();
+      };
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public BigDecimal getBigDecimal() {
+    this.checkNumber();
+    try {
+      return this.parser.getDecimalValue();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public double getDouble() {
+    this.checkNumber();
+    try {
+      return this.parser.getDoubleValue();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public float getFloat() {
+    this.checkNumber();
+    try {
+      return this.parser.getFloatValue();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public NumberType getNumberKind() {
+    this.checkNumber();
+    try {
+      return this.numberType();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public JsonLocation getLocation() {
+    com.fasterxml.jackson.core.JsonLocation location = this.parser.currentLocation();
+    long offset = location.getCharOffset();
+    if (offset == -1L) {
+      offset = location.getByteOffset();
+    }
+    return new JacksonLocation(location.getLineNr(), location.getColumnNr(), offset);
+  }
+
+  @Override
+  public Event currentEvent() {
+    return this.currentEvent;
+  }
+
+  @Override
+  public void close() {
+    try {
+      this.parser.close();
+    } catch (IOException e) {
+      throw new JsonException("could not close parser", e);
+    }
+  }
+
+  static final class JacksonLocation implements JsonLocation {
+
+    private final long lineNumber;
+    private final long columnNumber;
+    private final long streamOffset;
+
+    JacksonLocation(long lineNumber, long columnNumber, long streamOffset) {
+      this.lineNumber = lineNumber;
+      this.columnNumber = columnNumber;
+      this.streamOffset = streamOffset;
+    }
+
+    @Override
+    public long getLineNumber() {
+      return this.lineNumber;
+    }
+
+    @Override
+    public long getColumnNumber() {
+      return this.columnNumber;
+    }
+
+    @Override
+    public long getStreamOffset() {
+      return this.streamOffset;
+    }
+
+    @Override
+    public String toString() {
+      return "(line no=" + this.lineNumber + ", column no=" + this.columnNumber + ", offset=" + this.streamOffset + ")";
+    }
+
+  }
+
+}
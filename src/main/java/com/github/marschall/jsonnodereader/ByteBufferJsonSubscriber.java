@@ -0,0 +1,115 @@
+package com.github.marschall.jsonnodereader;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Flow.Subscriber} that feeds {@link ByteBuffer}s to a
+ * {@link NonBlockingJacksonJsonParser} and calls an event handler for every
+ * event as soon as it is available.
+ * <p>
+ * Requests one buffer at a time. The event handler is called with the parser
+ * positioned on the event and may call the accessor and skip methods of the
+ * parser.
+ */
+public final class ByteBufferJsonSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+  private final NonBlockingJacksonJsonParser parser;
+  private final Consumer<? super NonBlockingJacksonJsonParser> eventHandler;
+  private final CompletableFuture<Void> completion;
+  private Flow.Subscription subscription;
+
+  /**
+   * Initializes a {@link ByteBufferJsonSubscriber}.
+   * 
+   * @param parser the parser to feed, not {@code null}, closed once the
+   *               input is complete or on failure
+   * @param eventHandler called for every event, not {@code null}
+   */
+  public ByteBufferJsonSubscriber(NonBlockingJacksonJsonParser parser, Consumer<? super NonBlockingJacksonJsonParser> eventHandler) {
+    Objects.requireNonNull(parser, "parser");
+    Objects.requireNonNull(eventHandler, "eventHandler");
+    this.parser = parser;
+    this.eventHandler = eventHandler;
+    this.completion = new CompletableFuture<>();
+  }
+
+  /**
+   * Returns a future that is completed once the last event has been handled
+   * or completed exceptionally on failure.
+   * 
+   * @return the completion future
+   */
+  public CompletableFuture<Void> getCompletion() {
+    return this.completion;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+    this.subscription = subscription;
+    subscription.request(1L);
+  }
+
+  @Override
+  public void onNext(ByteBuffer item) {
+    if (this.completion.isDone()) {
+      return;
+    }
+    try {
+      this.parser.feed(item);
+      this.handleAvailableEvents();
+    } catch (RuntimeException e) {
+      this.subscription.cancel();
+      this.fail(e);
+      return;
+    }
+    this.subscription.request(1L);
+  }
+
+  private void handleAvailableEvents() {
+    while (this.parser.hasNext()) {
+      if (this.parser.nextAvailable() == null) {
+        return;
+      }
+      this.eventHandler.accept(this.parser);
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    this.fail(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    if (this.completion.isDone()) {
+      return;
+    }
+    try {
+      this.parser.endOfInput();
+      this.handleAvailableEvents();
+      this.parser.close();
+    } catch (RuntimeException e) {
+      this.fail(e);
+      return;
+    }
+    this.completion.complete(null);
+  }
+
+  private void fail(Throwable throwable) {
+    try {
+      this.parser.close();
+    } catch (RuntimeException e) {
+      throwable.addSuppressed(e);
+    }
+    this.completion.completeExceptionally(throwable);
+  }
+
+}
@@ -0,0 +1,147 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * A Jakarta {@link JsonParser} that works on a Jackson
+ * {@link com.fasterxml.jackson.core.JsonParser}.
+ * <p>
+ * Unlike {@link JsonNodeJsonParser} no tree is built for the input,
+ * {@link #getObject()} and {@link #getArray()} build a tree only for the
+ * requested structure. {@link #skipObject()} and {@link #skipArray()} use
+ * {@link com.fasterxml.jackson.core.JsonParser#skipChildren()}.
+ */
+public final class JacksonJsonParser extends AbstractJacksonJsonParser {
+
+  /**
+   * Initializes a {@link JacksonJsonParser}.
+   * 
+   * @param parser the Jackson parser to read from, not {@code null},
+   *               closed when this parser is closed
+   */
+  public JacksonJsonParser(com.fasterxml.jackson.core.JsonParser parser) {
+    super(parser);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !this.isRootComplete();
+  }
+
+  @Override
+  public Event next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    JsonToken token;
+    try {
+      token = this.parser.nextToken();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+    if (token == null) {
+      throw new NoSuchElementException();
+    }
+    this.currentEvent = this.toEvent(token);
+    return this.currentEvent;
+  }
+
+  @Override
+  public JsonObject getObject() {
+    if (this.currentEvent != Event.START_OBJECT) {
+      throw new IllegalStateException("not in start object");
+    }
+    JsonNode node = this.readTree();
+    this.currentEvent = Event.END_OBJECT;
+    if (node.isEmpty()) {
+      return JsonValue.EMPTY_JSON_OBJECT;
+    } else {
+      return new JsonNodeJsonObject(node);
+    }
+  }
+
+  @Override
+  public JsonArray getArray() {
+    if (this.currentEvent != Event.START_ARRAY) {
+      throw new IllegalStateException("not in start array");
+    }
+    JsonNode node = this.readTree();
+    this.currentEvent = Event.END_ARRAY;
+    if (node.isEmpty()) {
+      return JsonValue.EMPTY_JSON_ARRAY;
+    } else {
+      return new JsonNodeJsonArray(node);
+    }
+  }
+
+  private JsonNode readTree() {
+    try {
+      // reads up to and including the matching end token
+      return JsonNodeAdapter.OBJECT_MAPPER.readTree(this.parser);
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  @Override
+  public JsonValue getValue() {
+    if (this.currentEvent == null) {
+      throw new IllegalStateException("no current event");
+    }
+    return switch (this.currentEvent) {
+      case END_OBJECT, END_ARRAY -> throw new IllegalStateException("in state end");
+      case START_ARRAY -> this.getArray();
+      case START_OBJECT -> this.getObject();
+      default -> this.getScalarValue();
+    };
+  }
+
+  @Override
+  public void skipArray() {
+    if (this.parser.getParsingContext().inArray()) {
+      this.skip(JsonToken.START_ARRAY, JsonToken.END_ARRAY);
+      this.currentEvent = Event.END_ARRAY;
+    }
+  }
+
+  @Override
+  public void skipObject() {
+    if (this.parser.getParsingContext().inObject()) {
+      this.skip(JsonToken.START_OBJECT, JsonToken.END_OBJECT);
+      this.currentEvent = Event.END_OBJECT;
+    }
+  }
+
+  private void skip(JsonToken startToken, JsonToken endToken) {
+    try {
+      if (this.parser.currentToken() == startToken) {
+        this.parser.skipChildren();
+      } else {
+        // somewhere inside the structure, skip the remaining siblings
+        JsonToken token = this.parser.nextToken();
+        while (token != endToken) {
+          if (token == null) {
+            throw new JsonParsingException("unexpected end of input", this.getLocation());
+          }
+          if (token.isStructStart()) {
+            this.parser.skipChildren();
+          }
+          token = this.parser.nextToken();
+        }
+      }
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+}
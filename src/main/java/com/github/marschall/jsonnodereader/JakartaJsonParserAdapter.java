@@ -0,0 +1,496 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.base.ParserMinimalBase;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.core.json.JsonReadContext;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * A Jackson {@link JsonParser} that reads from a Jakarta
+ * {@link jakarta.json.stream.JsonParser}.
+ * <p>
+ * Allows binding the output of any JSON-P parser with Jackson databind without
+ * writing it to text first.
+ * <pre><code>
+ * try (JsonParser parser = new JakartaJsonParserAdapter(jakartaParser)) {
+ *   MyType value = objectMapper.readValue(parser, MyType.class);
+ * }
+ * </code></pre>
+ * <p>
+ * Numbers are read from the Jakarta parser without going through their text,
+ * {@link PrimitiveJsonParser}s are read without creating a {@link BigDecimal}.
+ * {@link #skipChildren()} uses {@link jakarta.json.stream.JsonParser#skipObject()}
+ * and {@link jakarta.json.stream.JsonParser#skipArray()}.
+ */
+public final class JakartaJsonParserAdapter extends ParserMinimalBase {
+
+  private final jakarta.json.stream.JsonParser delegate;
+
+  private final PrimitiveJsonParser primitiveDelegate;
+
+  private ObjectCodec codec;
+
+  private JsonReadContext parsingContext;
+
+  private NumberType numberType;
+
+  private boolean skipSupported;
+
+  private boolean closed;
+
+  /**
+   * Initializes a {@link JakartaJsonParserAdapter} without a codec.
+   * 
+   * @param delegate the Jakarta parser to read from, not {@code null},
+   *                 closed when this parser is closed
+   */
+  public JakartaJsonParserAdapter(jakarta.json.stream.JsonParser delegate) {
+    this(delegate, null);
+  }
+
+  /**
+   * Initializes a {@link JakartaJsonParserAdapter}.
+   * 
+   * @param delegate the Jakarta parser to read from, not {@code null},
+   *                 closed when this parser is closed
+   * @param codec the codec used for {@link #readValueAs(Class)} and
+   *              {@link #readValueAsTree()}, may be {@code null}
+   */
+  public JakartaJsonParserAdapter(jakarta.json.stream.JsonParser delegate, ObjectCodec codec) {
+    super(StreamReadConstraints.defaults());
+    Objects.requireNonNull(delegate, "delegate");
+    this.delegate = delegate;
+    this.primitiveDelegate = delegate instanceof PrimitiveJsonParser primitive ? primitive : null;
+    this.codec = codec;
+    this.parsingContext = JsonReadContext.createRootContext(null);
+    this.skipSupported = true;
+  }
+
+  private IOException toIOException(JsonException e) {
+    if (e.getCause() instanceof IOException ioException) {
+      return ioException;
+    }
+    return this._constructError(e.getMessage(), e);
+  }
+
+  @Override
+  public JsonToken nextToken() throws IOException {
+    this.numberType = null;
+    if (this.closed) {
+      return null;
+    }
+    Event event;
+    try {
+      if (!this.delegate.hasNext()) {
+        return this._updateTokenToNull();
+      }
+      event = this.delegate.next();
+    } catch (JsonException e) {
+      throw this.toIOException(e);
+    }
+    return this._updateToken(switch (event) {
+      case START_OBJECT -> {
+        this.parsingContext.expectComma();
+        this.parsingContext = this.parsingContext.createChildObjectContext(-1, -1);
+        yield JsonToken.START_OBJECT;
+      }
+      case START_ARRAY -> {
+        this.parsingContext.expectComma();
+        this.parsingContext = this.parsingContext.createChildArrayContext(-1, -1);
+        yield JsonToken.START_ARRAY;
+      }
+      case END_OBJECT -> {
+        this.parsingContext = this.parsingContext.clearAndGetParent();
+        yield JsonToken.END_OBJECT;
+      }
+      case END_ARRAY -> {
+        this.parsingContext = this.parsingContext.clearAndGetParent();
+        yield JsonToken.END_ARRAY;
+      }
+      case KEY_NAME -> {
+        this.parsingContext.setCurrentName(this.delegate.getString());
+        yield JsonToken.FIELD_NAME;
+      }
+      case VALUE_STRING -> {
+        this.parsingContext.expectComma();
+        yield JsonToken.VALUE_STRING;
+      }
+      case VALUE_NUMBER -> {
+        this.parsingContext.expectComma();
+        yield this.delegate.isIntegralNumber() ? JsonToken.VALUE_NUMBER_INT : JsonToken.VALUE_NUMBER_FLOAT;
+      }
+      case VALUE_TRUE -> {
+        this.parsingContext.expectComma();
+        yield JsonToken.VALUE_TRUE;
+      }
+      case VALUE_FALSE -> {
+        this.parsingContext.expectComma();
+        yield JsonToken.VALUE_FALSE;
+      }
+      case VALUE_NULL -> {
+        this.parsingContext.expectComma();
+        yield JsonToken.VALUE_NULL;
+      }
+    });
+  }
+
+  @Override
+  public JsonParser skipChildren() throws IOException {
+    if (this._currToken == JsonToken.START_OBJECT) {
+      this.skip(true);
+      this._currToken = JsonToken.END_OBJECT;
+      this.parsingContext = this.parsingContext.clearAndGetParent();
+    } else if (this._currToken == JsonToken.START_ARRAY) {
+      this.skip(false);
+      this._currToken = JsonToken.END_ARRAY;
+      this.parsingContext = this.parsingContext.clearAndGetParent();
+    }
+    return this;
+  }
+
+  private void skip(boolean object) throws IOException {
+    try {
+      if (this.skipSupported) {
+        try {
+          if (object) {
+            this.delegate.skipObject();
+          } else {
+            this.delegate.skipArray();
+          }
+          return;
+        } catch (UnsupportedOperationException e) {
+          // optional operation, fall back to reading the events
+          this.skipSupported = false;
+        }
+      }
+      int open = 1;
+      while (open > 0) {
+        if (!this.delegate.hasNext()) {
+          this._handleEOF();
+        }
+        switch (this.delegate.next()) {
+          case START_OBJECT, START_ARRAY -> open += 1;
+          case END_OBJECT, END_ARRAY -> open -= 1;
+          default -> {
+            // ignore
+          }
+        }
+      }
+    } catch (JsonException e) {
+      throw this.toIOException(e);
+    }
+  }
+
+  @Override
+  protected void _handleEOF() throws JsonParseException {
+    if (!this.parsingContext.inRoot()) {
+      this._reportInvalidEOF(": expected close marker for " + this.parsingContext.typeDesc(), null);
+    }
+  }
+
+  @Deprecated
+  @Override
+  public String getCurrentName() throws IOException {
+    return this.currentName();
+  }
+
+  @Override
+  public String currentName() throws IOException {
+    if (this._currToken == JsonToken.START_OBJECT || this._currToken == JsonToken.START_ARRAY) {
+      JsonReadContext parent = this.parsingContext.getParent();
+      if (parent != null) {
+        return parent.getCurrentName();
+      }
+    }
+    return this.parsingContext.getCurrentName();
+  }
+
+  @Override
+  public void overrideCurrentName(String name) {
+    JsonReadContext context = this.parsingContext;
+    if (this._currToken == JsonToken.START_OBJECT || this._currToken == JsonToken.START_ARRAY) {
+      context = context.getParent();
+    }
+    try {
+      context.setCurrentName(name);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!this.closed) {
+      this.closed = true;
+      try {
+        this.delegate.close();
+      } catch (JsonException e) {
+        throw this.toIOException(e);
+      }
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return this.closed;
+  }
+
+  @Override
+  public JsonStreamContext getParsingContext() {
+    return this.parsingContext;
+  }
+
+  @Deprecated
+  @Override
+  public JsonLocation getCurrentLocation() {
+    return this.currentLocation();
+  }
+
+  @Override
+  public JsonLocation currentLocation() {
+    jakarta.json.stream.JsonLocation location = this.delegate.getLocation();
+    return new JsonLocation(ContentReference.unknown(), -1L, location.getStreamOffset(),
+            (int) location.getLineNumber(), (int) location.getColumnNumber());
+  }
+
+  @Deprecated
+  @Override
+  public JsonLocation getTokenLocation() {
+    return this.currentTokenLocation();
+  }
+
+  @Override
+  public JsonLocation currentTokenLocation() {
+    return this.currentLocation();
+  }
+
+  @Override
+  public String getText() throws IOException {
+    if (this._currToken == null) {
+      return null;
+    }
+    return switch (this._currToken) {
+      case FIELD_NAME -> this.parsingContext.getCurrentName();
+      case VALUE_STRING, VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+        try {
+          yield this.delegate.getString();
+        } catch (JsonException e) {
+          throw this.toIOException(e);
+        }
+      }
+      default -> this._currToken.asString();
+    };
+  }
+
+  @Override
+  public char[] getTextCharacters() throws IOException {
+    String text = this.getText();
+    return text != null ? text.toCharArray() : null;
+  }
+
+  @Override
+  public boolean hasTextCharacters() {
+    return false;
+  }
+
+  @Override
+  public int getTextLength() throws IOException {
+    String text = this.getText();
+    return text != null ? text.length() : 0;
+  }
+
+  @Override
+  public int getTextOffset() throws IOException {
+    return 0;
+  }
+
+  @Override
+  public byte[] getBinaryValue(Base64Variant base64Variant) throws IOException {
+    if (this._currToken != JsonToken.VALUE_STRING) {
+      this._reportError("Current token (" + this._currToken + ") not VALUE_STRING, can not access as binary");
+    }
+    ByteArrayBuilder builder = new ByteArrayBuilder();
+    this._decodeBase64(this.getText(), builder, base64Variant);
+    return builder.toByteArray();
+  }
+
+  @Override
+  public ObjectCodec getCodec() {
+    return this.codec;
+  }
+
+  @Override
+  public void setCodec(ObjectCodec codec) {
+    this.codec = codec;
+  }
+
+  @Override
+  public Version version() {
+    return Version.unknownVersion();
+  }
+
+  private void checkNumber() throws JsonParseException {
+    if (this._currToken == null || !this._currToken.isNumeric()) {
+      this._reportError("Current token (" + this._currToken + ") not numeric, can not use numeric value accessors");
+    }
+  }
+
+  @Override
+  public NumberType getNumberType() throws IOException {
+    this.checkNumber();
+    if (this.numberType == null) {
+      try {
+        if (this.primitiveDelegate != null) {
+          this.numberType = this.primitiveDelegate.getNumberKind();
+        } else if (this._currToken == JsonToken.VALUE_NUMBER_INT) {
+          int bitLength = this.delegate.getBigDecimal().unscaledValue().bitLength();
+          if (bitLength < Integer.SIZE) {
+            this.numberType = NumberType.INT;
+          } else if (bitLength < Long.SIZE) {
+            this.numberType = NumberType.LONG;
+          } else {
+            this.numberType = NumberType.BIG_INTEGER;
+          }
+        } else {
+          // JSON-P numbers are exact
+          this.numberType = NumberType.BIG_DECIMAL;
+        }
+      } catch (JsonException e) {
+        throw this.toIOException(e);
+      }
+    }
+    return this.numberType;
+  }
+
+  @Override
+  public Number getNumberValue() throws IOException {
+    return switch (this.getNumberType()) {
+      case INT -> this.getIntValue();
+      case LONG -> this.getLongValue();
+      case BIG_INTEGER -> this.getBigIntegerValue();
+      case FLOAT -> this.getFloatValue();
+      case DOUBLE -> this.getDoubleValue();
+      case BIG_DECIMAL -> this.getDecimalValue();
+    };
+  }
+
+  @Override
+  public int getIntValue() throws IOException {
+    if (this._currToken == JsonToken.VALUE_NUMBER_INT) {
+      try {
+        switch (this.getNumberType()) {
+          case INT -> {
+            return this.delegate.getInt();
+          }
+          case LONG -> {
+            long value = this.delegate.getLong();
+            if (value >= MIN_INT_L && value <= MAX_INT_L) {
+              return (int) value;
+            }
+          }
+          default -> {
+            BigInteger value = this.getBigIntegerValue();
+            if (value.bitLength() < Integer.SIZE) {
+              return value.intValue();
+            }
+          }
+        }
+      } catch (JsonException e) {
+        throw this.toIOException(e);
+      }
+      this.reportOverflowInt(this.getText(), JsonToken.VALUE_NUMBER_INT);
+    }
+    double value = this.getDoubleValue();
+    if (value < MIN_INT_D || value > MAX_INT_D) {
+      this.reportOverflowInt(this.getText(), JsonToken.VALUE_NUMBER_FLOAT);
+    }
+    return (int) value;
+  }
+
+  @Override
+  public long getLongValue() throws IOException {
+    if (this._currToken == JsonToken.VALUE_NUMBER_INT) {
+      try {
+        switch (this.getNumberType()) {
+          case INT, LONG -> {
+            return this.delegate.getLong();
+          }
+          default -> {
+            BigInteger value = this.getBigIntegerValue();
+            if (value.bitLength() < Long.SIZE) {
+              return value.longValue();
+            }
+          }
+        }
+      } catch (JsonException e) {
+        throw this.toIOException(e);
+      }
+      this.reportOverflowLong(this.getText(), JsonToken.VALUE_NUMBER_INT);
+    }
+    double value = this.getDoubleValue();
+    if (value < MIN_LONG_D || value > MAX_LONG_D) {
+      this.reportOverflowLong(this.getText(), JsonToken.VALUE_NUMBER_FLOAT);
+    }
+    return (long) value;
+  }
+
+  @Override
+  public BigInteger getBigIntegerValue() throws IOException {
+    return this.getDecimalValue().toBigInteger();
+  }
+
+  @Override
+  public float getFloatValue() throws IOException {
+    this.checkNumber();
+    try {
+      if (this.primitiveDelegate != null) {
+        return this.primitiveDelegate.getFloat();
+      }
+      return this.delegate.getBigDecimal().floatValue();
+    } catch (JsonException e) {
+      throw this.toIOException(e);
+    }
+  }
+
+  @Override
+  public double getDoubleValue() throws IOException {
+    this.checkNumber();
+    try {
+      if (this.primitiveDelegate != null) {
+        return this.primitiveDelegate.getDouble();
+      }
+      return this.delegate.getBigDecimal().doubleValue();
+    } catch (JsonException e) {
+      throw this.toIOException(e);
+    }
+  }
+
+  @Override
+  public BigDecimal getDecimalValue() throws IOException {
+    this.checkNumber();
+    try {
+      return this.delegate.getBigDecimal();
+    } catch (JsonException e) {
+      throw this.toIOException(e);
+    }
+  }
+
+}
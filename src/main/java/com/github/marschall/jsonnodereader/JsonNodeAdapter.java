@@ -2,9 +2,13 @@ package com.github.marschall.jsonnodereader;
 
 import java.util.Map.Entry;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 
 import jakarta.json.JsonArray;
@@ -20,23 +24,33 @@ final class JsonNodeAdapter {
       .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
       .build();
 
+  static final ObjectWriter OBJECT_WRITER = OBJECT_MAPPER.writer()
+      .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
   private JsonNodeAdapter() {
     throw new AssertionError("not instantiable");
   }
 
   static JsonValue adapt(JsonNode jsonNode) {
+    return adapt(jsonNode, ViewMode.LIVE);
+  }
+
+  static JsonValue adapt(JsonNode jsonNode, ViewMode mode) {
     return switch (jsonNode.getNodeType()) {
-      case ARRAY -> new JsonNodeJsonArray(jsonNode);
+      case ARRAY -> new JsonNodeJsonArray(jsonNode, mode);
       case BOOLEAN -> jsonNode.booleanValue() ? JsonValue.TRUE : JsonValue.FALSE;
       case NULL -> JsonValue.NULL;
       case NUMBER -> new JsonNodeJsonNumber(jsonNode);
-      case OBJECT -> new JsonNodeJsonObject(jsonNode);
+      case OBJECT -> new JsonNodeJsonObject(jsonNode, mode);
       case STRING -> new JsonNodeJsonString(jsonNode);
       default -> throw new IllegalArgumentException("Unexpected node type: " + jsonNode.getNodeType());
     };
   }
 
   static boolean valueEquals(JsonNode jsonNode, JsonValue jsonValue) {
+    if (jsonValue instanceof JsonNodeValue nodeValue) {
+      return nodeEquals(jsonNode, nodeValue.getJsonNode());
+    }
     return switch (jsonValue.getValueType()) {
       case ARRAY -> jsonNode.isArray() && arrayEquals(jsonNode, (JsonArray) jsonValue);
       case FALSE -> jsonNode.isBoolean() && !jsonNode.booleanValue();
@@ -49,6 +63,55 @@ final class JsonNodeAdapter {
     };
   }
 
+  /**
+   * Compares two nodes with JSON-P semantics without allocating any
+   * {@link JsonValue} wrappers.
+   */
+  static boolean nodeEquals(JsonNode left, JsonNode right) {
+    if (left == right) {
+      return true;
+    }
+    JsonNodeType nodeType = left.getNodeType();
+    if (nodeType != right.getNodeType()) {
+      return false;
+    }
+    return switch (nodeType) {
+      case ARRAY -> arrayNodeEquals(left, right);
+      case BOOLEAN -> left.booleanValue() == right.booleanValue();
+      case NULL -> true;
+      case NUMBER -> JsonNodeNumbers.equals(left, right);
+      case OBJECT -> objectNodeEquals(left, right);
+      case STRING -> left.textValue().equals(right.textValue());
+      default -> throw new IllegalArgumentException("Unexpected node type: " + nodeType);
+    };
+  }
+
+  private static boolean objectNodeEquals(JsonNode left, JsonNode right) {
+    if (left.size() != right.size()) {
+      return false;
+    }
+    for (Entry<String, JsonNode> property : left.properties()) {
+      JsonNode value = right.get(property.getKey());
+      if (value == null || !nodeEquals(property.getValue(), value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean arrayNodeEquals(JsonNode left, JsonNode right) {
+    int size = left.size();
+    if (size != right.size()) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!nodeEquals(left.get(i), right.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   static boolean textEquals(JsonNode jsonNode, JsonString jsonString) {
     return jsonNode.textValue().equals(jsonString.getString());
   }
@@ -67,7 +130,7 @@ final class JsonNodeAdapter {
   }
 
   static boolean numberEquals(JsonNode jsonNode, JsonNumber jsonNumber) {
-    return jsonNode.decimalValue().equals(jsonNumber.bigDecimalValue());
+    return JsonNodeNumbers.equals(jsonNode, jsonNumber);
   }
 
   static boolean arrayEquals(JsonNode jsonNode, JsonArray jsonArray) {
@@ -84,13 +147,20 @@ final class JsonNodeAdapter {
     return true;
   }
 
+  static String toString(JsonNode jsonNode) {
+    try {
+      return OBJECT_WRITER.writeValueAsString(jsonNode);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("could not serialize JsonNode", e);
+    }
+  }
+
   static int hashCode(JsonNode jsonNode) {
     return switch (jsonNode.getNodeType()) {
       case ARRAY -> arrayHashCode(jsonNode);
       case BOOLEAN -> jsonNode.booleanValue() ? ValueType.TRUE.hashCode() : ValueType.FALSE.hashCode();
       case NULL -> ValueType.NULL.hashCode();
-      // BigDecimal allocation could be avoided for int/log
-      case NUMBER -> jsonNode.decimalValue().hashCode();
+      case NUMBER -> JsonNodeNumbers.hashCode(jsonNode);
       case OBJECT -> objectHashCode(jsonNode);
       case STRING -> jsonNode.hashCode();
       default -> throw new IllegalArgumentException("Unexpected node type: " + jsonNode.getNodeType());
@@ -0,0 +1,306 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Selects subtrees of a Jackson tree, similar to Jackson's
+ * {@link com.fasterxml.jackson.core.filter.FilteringParserDelegate}.
+ * <p>
+ * A filter is compiled from a set of paths into a prefix tree.
+ * {@link #apply(JsonNode)} returns a projection that contains the matching
+ * subtrees and the objects and arrays enclosing them, a parser on the
+ * projection emits only the events of the matches and their enclosing
+ * structures. Matching subtrees are shared with the source, not copied.
+ * Properties that are not in the filter are not visited, they are looked up
+ * directly with {@link JsonNode#get(String)} unless the filter contains a
+ * wildcard at that level.
+ * <p>
+ * Objects in the projection contain the members in the order of the filter
+ * unless they are selected with a wildcard, arrays contain only the matching
+ * elements in their original order.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @see JsonNodeJsonProvider#createParser(JsonNode, JsonNodeFilter)
+ */
+public final class JsonNodeFilter {
+
+  private static final String WILDCARD = "*";
+
+  private final PathNode root;
+
+  private JsonNodeFilter(PathNode root) {
+    this.root = root;
+  }
+
+  /**
+   * Creates a filter from JSON Pointers.
+   *
+   * @param jsonPointers the JSON Pointers of the subtrees to select, not
+   *                     {@code null}
+   * @return the filter
+   * @throws jakarta.json.JsonException if a pointer is invalid
+   */
+  public static JsonNodeFilter ofPointers(Collection<String> jsonPointers) {
+    Objects.requireNonNull(jsonPointers, "jsonPointers");
+    PathNode root = new PathNode();
+    for (String jsonPointer : jsonPointers) {
+      JsonPointer pointer = JsonNodeJsonPointer.compile(jsonPointer).getJacksonPointer();
+      PathNode current = root;
+      while (!pointer.matches()) {
+        current = current.exactChild(pointer.getMatchingProperty());
+        pointer = pointer.tail();
+      }
+      current.all = true;
+    }
+    return new JsonNodeFilter(root.normalize());
+  }
+
+  /**
+   * Creates a filter from key paths.
+   * <p>
+   * A key path is a sequence of property names or array indices separated
+   * by {@code .}, the segment {@code *} matches every property or element,
+   * eg. {@code items.*.name}. The empty key path selects everything.
+   *
+   * @param keyPaths the key paths of the subtrees to select, not {@code null}
+   * @return the filter
+   */
+  public static JsonNodeFilter ofKeyPaths(Collection<String> keyPaths) {
+    Objects.requireNonNull(keyPaths, "keyPaths");
+    PathNode root = new PathNode();
+    for (String keyPath : keyPaths) {
+      PathNode current = root;
+      if (!keyPath.isEmpty()) {
+        for (String segment : keyPath.split("\\.", -1)) {
+          current = segment.equals(WILDCARD) ? current.wildcardChild() : current.exactChild(segment);
+        }
+      }
+      current.all = true;
+    }
+    return new JsonNodeFilter(root.normalize());
+  }
+
+  /**
+   * Returns the projection of a node on this filter.
+   *
+   * @param root the node to filter, not {@code null}
+   * @return the matching subtrees of {@code root} and their enclosing
+   *         structures, an empty object or array if there are none
+   */
+  public JsonNode apply(JsonNode root) {
+    Objects.requireNonNull(root, "root");
+    JsonNode projection = project(root, this.root);
+    if (projection != null) {
+      return projection;
+    }
+    if (root.isArray()) {
+      return JsonNodeFactory.instance.arrayNode();
+    }
+    return JsonNodeFactory.instance.objectNode();
+  }
+
+  /**
+   * Projects a node, returns {@code null} if nothing matches.
+   */
+  private static JsonNode project(JsonNode node, PathNode path) {
+    if (path.all) {
+      return node;
+    }
+    if (node.isObject()) {
+      return projectObject(node, path);
+    }
+    if (node.isArray()) {
+      return projectArray(node, path);
+    }
+    // the path continues below a scalar
+    return null;
+  }
+
+  private static JsonNode projectObject(JsonNode node, PathNode path) {
+    ObjectNode projection = null;
+    if (path.wildcard != null) {
+      for (Entry<String, JsonNode> member : node.properties()) {
+        String name = member.getKey();
+        PathNode childPath = path.children.getOrDefault(name, path.wildcard);
+        JsonNode child = project(member.getValue(), childPath);
+        if (child != null) {
+          if (projection == null) {
+            projection = JsonNodeFactory.instance.objectNode();
+          }
+          projection.set(name, child);
+        }
+      }
+    } else {
+      for (Entry<String, PathNode> childPath : path.children.entrySet()) {
+        String name = childPath.getKey();
+        JsonNode value = node.get(name);
+        if (value != null) {
+          JsonNode child = project(value, childPath.getValue());
+          if (child != null) {
+            if (projection == null) {
+              projection = JsonNodeFactory.instance.objectNode();
+            }
+            projection.set(name, child);
+          }
+        }
+      }
+    }
+    return projection;
+  }
+
+  private static JsonNode projectArray(JsonNode node, PathNode path) {
+    ArrayNode projection = null;
+    if (path.wildcard != null) {
+      int size = node.size();
+      boolean exact = !path.children.isEmpty();
+      for (int i = 0; i < size; i++) {
+        PathNode childPath = exact ? path.children.getOrDefault(Integer.toString(i), path.wildcard) : path.wildcard;
+        JsonNode child = project(node.get(i), childPath);
+        if (child != null) {
+          if (projection == null) {
+            projection = JsonNodeFactory.instance.arrayNode();
+          }
+          projection.add(child);
+        }
+      }
+    } else {
+      int size = node.size();
+      for (int i = 0; i < path.indexes.length && path.indexes[i] < size; i++) {
+        int index = path.indexes[i];
+        JsonNode child = project(node.get(index), path.indexChildren[i]);
+        if (child != null) {
+          if (projection == null) {
+            projection = JsonNodeFactory.instance.arrayNode();
+          }
+          projection.add(child);
+        }
+      }
+    }
+    return projection;
+  }
+
+  /**
+   * A node of the prefix tree of the paths.
+   */
+  static final class PathNode {
+
+    /**
+     * Whether the whole subtree is selected.
+     */
+    boolean all;
+
+    Map<String, PathNode> children;
+
+    PathNode wildcard;
+
+    /**
+     * The names of {@link #children} that are array indices, ascending.
+     */
+    int[] indexes;
+
+    /**
+     * The children for {@link #indexes}.
+     */
+    PathNode[] indexChildren;
+
+    PathNode() {
+      this.children = new LinkedHashMap<>();
+    }
+
+    PathNode exactChild(String name) {
+      return this.children.computeIfAbsent(name, key -> new PathNode());
+    }
+
+    PathNode wildcardChild() {
+      PathNode localWildcard = this.wildcard;
+      if (localWildcard == null) {
+        localWildcard = new PathNode();
+        this.wildcard = localWildcard;
+      }
+      return localWildcard;
+    }
+
+    /**
+     * Merges the wildcard into the exact children so that a single child has
+     * to be followed for every property.
+     */
+    PathNode normalize() {
+      if (this.all) {
+        this.children = Map.of();
+        this.wildcard = null;
+      }
+      if (this.wildcard != null) {
+        this.wildcard.normalize();
+        for (Entry<String, PathNode> child : this.children.entrySet()) {
+          child.setValue(merge(child.getValue(), this.wildcard));
+        }
+      }
+      List<Entry<String, PathNode>> indexEntries = new ArrayList<>();
+      for (Entry<String, PathNode> child : this.children.entrySet()) {
+        child.getValue().normalize();
+        if (isIndex(child.getKey())) {
+          indexEntries.add(child);
+        }
+      }
+      indexEntries.sort((a, b) -> Integer.compare(Integer.parseInt(a.getKey()), Integer.parseInt(b.getKey())));
+      this.indexes = new int[indexEntries.size()];
+      this.indexChildren = new PathNode[indexEntries.size()];
+      for (int i = 0; i < indexEntries.size(); i++) {
+        this.indexes[i] = Integer.parseInt(indexEntries.get(i).getKey());
+        this.indexChildren[i] = indexEntries.get(i).getValue();
+      }
+      return this;
+    }
+
+    private static PathNode merge(PathNode left, PathNode right) {
+      PathNode merged = new PathNode();
+      merged.all = left.all || right.all;
+      if (merged.all) {
+        return merged;
+      }
+      for (PathNode source : Arrays.asList(left, right)) {
+        for (Entry<String, PathNode> child : source.children.entrySet()) {
+          PathNode existing = merged.children.get(child.getKey());
+          merged.children.put(child.getKey(), existing == null ? child.getValue() : merge(existing, child.getValue()));
+        }
+        if (source.wildcard != null) {
+          merged.wildcard = merged.wildcard == null ? source.wildcard : merge(merged.wildcard, source.wildcard);
+        }
+      }
+      return merged;
+    }
+
+    /**
+     * Whether a name is an array index in canonical form like in JSON Pointer.
+     */
+    private static boolean isIndex(String name) {
+      int length = name.length();
+      if (length == 0 || length > 9 || (length > 1 && name.charAt(0) == '0')) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        char c = name.charAt(i);
+        if (c < '0' || c > '9') {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+
+}
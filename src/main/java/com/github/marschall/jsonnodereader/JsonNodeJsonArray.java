@@ -3,6 +3,7 @@ package com.github.marschall.jsonnodereader;
 import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -10,10 +11,10 @@ import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.RandomAccess;
+import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 
@@ -23,13 +24,103 @@ import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 
-final class JsonNodeJsonArray implements JsonArray, RandomAccess {
+final class JsonNodeJsonArray implements PrimitiveJsonArray, RandomAccess, JsonNodeValue {
+
+  /**
+   * Arrays up to this size retain the views on their children in
+   * {@link #slots}.
+   */
+  private static final int MAX_SLOTS = 1024;
 
   private final JsonNode jsonNode;
 
+  private final ViewMode mode;
+
+  /**
+   * Retained views on children of small arrays indexed by position, created
+   * on first access, only used with {@link ViewMode#MEMOIZED} and
+   * {@link ViewMode#FROZEN}.
+   */
+  private JsonNodeValue[] slots;
+
+  /**
+   * Retained views on children of large arrays.
+   */
+  private RetainedViews children;
+
+  /**
+   * Cached hash code, only used with {@link ViewMode#FROZEN}.
+   */
+  private int hash;
+
+  /**
+   * Whether the cached hash code has been computed as 0.
+   */
+  private boolean hashIsZero;
+
+  /**
+   * Cached string representation, only used with {@link ViewMode#FROZEN}.
+   */
+  private String string;
+
   JsonNodeJsonArray(JsonNode jsonNode) {
+    this(jsonNode, ViewMode.LIVE);
+  }
+
+  JsonNodeJsonArray(JsonNode jsonNode, ViewMode mode) {
     Objects.requireNonNull(jsonNode, "jsonNode");
     this.jsonNode = jsonNode;
+    this.mode = mode;
+  }
+
+  JsonValue adaptChild(int index, JsonNode child) {
+    if (this.mode == ViewMode.LIVE) {
+      return JsonNodeAdapter.adapt(child);
+    }
+    // benign races, a lost array, table or slot only loses retained views
+    RetainedViews localChildren = this.children;
+    JsonNodeValue[] localSlots = this.slots;
+    if (localChildren == null && localSlots == null) {
+      int size = this.jsonNode.size();
+      if (size > MAX_SLOTS) {
+        localChildren = new RetainedViews();
+        this.children = localChildren;
+      } else {
+        localSlots = new JsonNodeValue[Math.max(size, index + 1)];
+        this.slots = localSlots;
+      }
+    }
+    if (localChildren != null) {
+      JsonNodeValue retained = localChildren.get(child);
+      if (retained != null) {
+        return retained;
+      }
+      JsonValue adapted = JsonNodeAdapter.adapt(child, this.mode);
+      if (adapted instanceof JsonNodeValue value) {
+        localChildren.put(value, this.jsonNode.size());
+      }
+      return adapted;
+    }
+    if (index >= localSlots.length) {
+      // the node grew, keep the views retained so far
+      localSlots = Arrays.copyOf(localSlots, Math.max(this.jsonNode.size(), index + 1));
+      this.slots = localSlots;
+    } else {
+      JsonNodeValue retained = localSlots[index];
+      if (retained != null && retained.getJsonNode() == child) {
+        return retained;
+      }
+    }
+    JsonValue adapted = JsonNodeAdapter.adapt(child, this.mode);
+    if (adapted instanceof JsonNodeValue value) {
+      localSlots[index] = value;
+    }
+    return adapted;
+  }
+
+  @Override
+  public JsonNode getJsonNode() {
+    return this.jsonNode;
   }
 
   @Override
@@ -53,12 +144,7 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     if (!(o instanceof JsonValue jsonValue)) {
       return false;
     }
-    for (int i = 0; i < this.size(); i++) {
-      if (JsonNodeAdapter.valueEquals(this.jsonNode.get(i), jsonValue)) {
-        return true;
-      }
-    }
-    return false;
+    return this.indexOf(jsonValue, 0, this.size()) != -1;
   }
 
   @Override
@@ -66,13 +152,18 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     return new JsonValueIterator();
   }
 
+  @Override
+  public Spliterator<JsonValue> spliterator() {
+    return new JsonValueSpliterator(this, 0, this.size());
+  }
+
   @Override
   public Object[] toArray() {
     int size = this.jsonNode.size();
     Object[] array = new Object[size];
     for (int i = 0; i < size; i++) {
       JsonNode value = this.jsonNode.get(i);
-      JsonValue jsonValue = JsonNodeAdapter.adapt(value);
+      JsonValue jsonValue = this.adaptChild(i, value);
       array[i] = jsonValue;
     }
     return array;
@@ -93,7 +184,7 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     }
     for (int i = 0; i < size; i++) {
       JsonNode value = this.jsonNode.get(i);
-      JsonValue jsonValue = JsonNodeAdapter.adapt(value);
+      JsonValue jsonValue = this.adaptChild(i, value);
       array[i] = (T) jsonValue;
     }
     return array;
@@ -147,7 +238,7 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
   @Override
   public JsonValue get(int index) {
     JsonNode value = this.jsonNode.get(Objects.checkIndex(index, this.size()));
-    return JsonNodeAdapter.adapt(value);
+    return this.adaptChild(index, value);
   }
 
   @Override
@@ -170,12 +261,7 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     if (!(o instanceof JsonValue jsonValue)) {
       return -1;
     }
-    for (int i = 0; i < this.size(); i++) {
-      if (JsonNodeAdapter.valueEquals(this.jsonNode.get(i), jsonValue)) {
-        return i;
-      }
-    }
-    return -1;
+    return this.indexOf(jsonValue, 0, this.size());
   }
 
   @Override
@@ -204,29 +290,117 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
   @Override
   public List<JsonValue> subList(int fromIndex, int toIndex) {
     Objects.checkFromToIndex(fromIndex, toIndex, this.size());
-    return new SubList(fromIndex, toIndex);
+    return new SubList(fromIndex, toIndex - fromIndex);
   }
 
+  @Override
+  public void forEach(Consumer<? super JsonValue> action) {
+    Objects.requireNonNull(action);
+    this.forEach(action, 0, this.jsonNode.size());
+  }
+
+  void forEach(Consumer<? super JsonValue> action, int fromIndex, int toIndex) {
+    JsonNode localNode = this.jsonNode;
+    for (int i = fromIndex; i < toIndex; i++) {
+      action.accept(this.adaptChild(i, localNode.get(i)));
+    }
+  }
+
+  int indexOf(JsonValue jsonValue, int fromIndex, int toIndex) {
+    JsonNode localNode = this.jsonNode;
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (JsonNodeAdapter.valueEquals(localNode.get(i), jsonValue)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * A range of the array, nested sub lists share the array instead of
+   * delegating to their parent.
+   */
   final class SubList extends AbstractList<JsonValue> implements RandomAccess {
-    // not optimized at all
 
-    private final int fromIndex;
-    private final int toIndex;
+    private final int offset;
+    private final int size;
 
-    SubList(int fromIndex, int toIndex) {
-      this.fromIndex = fromIndex;
-      this.toIndex = toIndex;
+    SubList(int offset, int size) {
+      this.offset = offset;
+      this.size = size;
     }
 
     @Override
     public int size() {
-      return this.toIndex - this.fromIndex;
+      return this.size;
     }
 
     @Override
     public JsonValue get(int index) {
-      Objects.checkIndex(index + this.fromIndex, JsonNodeJsonArray.this.size());
-      return JsonNodeJsonArray.this.get(index + this.fromIndex);
+      int arrayIndex = this.offset + Objects.checkIndex(index, this.size);
+      return JsonNodeJsonArray.this.adaptChild(arrayIndex, JsonNodeJsonArray.this.jsonNode.get(arrayIndex));
+    }
+
+    @Override
+    public List<JsonValue> subList(int fromIndex, int toIndex) {
+      Objects.checkFromToIndex(fromIndex, toIndex, this.size);
+      return new SubList(this.offset + fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return this.indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+      if (!(o instanceof JsonValue jsonValue)) {
+        return -1;
+      }
+      int index = JsonNodeJsonArray.this.indexOf(jsonValue, this.offset, this.offset + this.size);
+      return index == -1 ? -1 : index - this.offset;
+    }
+
+    @Override
+    public void forEach(Consumer<? super JsonValue> action) {
+      Objects.requireNonNull(action);
+      JsonNodeJsonArray.this.forEach(action, this.offset, this.offset + this.size);
+    }
+
+    @Override
+    public Spliterator<JsonValue> spliterator() {
+      return new JsonValueSpliterator(JsonNodeJsonArray.this, this.offset, this.offset + this.size);
+    }
+
+  }
+
+  /**
+   * Result of {@link #getValuesAs(Class)}, elements are adapted and type
+   * checked when they are accessed.
+   */
+  final class ValuesAs<T extends JsonValue> extends AbstractList<T> implements RandomAccess {
+
+    private final Class<T> clazz;
+
+    ValuesAs(Class<T> clazz) {
+      this.clazz = clazz;
+    }
+
+    @Override
+    public int size() {
+      return JsonNodeJsonArray.this.size();
+    }
+
+    @Override
+    public T get(int index) {
+      return this.clazz.cast(JsonNodeJsonArray.this.get(index));
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+      Objects.requireNonNull(action);
+      Class<T> localClazz = this.clazz;
+      JsonNodeJsonArray.this.forEach(value -> action.accept(localClazz.cast(value)));
     }
 
   }
@@ -236,7 +410,7 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     JsonNode value = this.jsonNode.get(Objects.checkIndex(index, this.size()));
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.OBJECT) {
-      return new JsonNodeJsonObject(value);
+      return (JsonObject) this.adaptChild(index, value);
     }
     throw new ClassCastException(JsonNodeType.OBJECT + " expected but got: " + nodeType);
   }
@@ -246,7 +420,7 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     JsonNode value = this.jsonNode.get(Objects.checkIndex(index, this.size()));
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.ARRAY) {
-      return new JsonNodeJsonArray(value);
+      return (JsonArray) this.adaptChild(index, value);
     }
     throw new ClassCastException(JsonNodeType.ARRAY + " expected but got: " + nodeType);
   }
@@ -256,7 +430,7 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     JsonNode value = this.jsonNode.get(Objects.checkIndex(index, this.size()));
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.NUMBER) {
-      return new JsonNodeJsonNumber(value);
+      return (JsonNumber) this.adaptChild(index, value);
     }
     throw new ClassCastException(JsonNodeType.NUMBER + " expected but got: " + nodeType);
   }
@@ -266,22 +440,20 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     JsonNode value = this.jsonNode.get(Objects.checkIndex(index, this.size()));
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.STRING) {
-      return new JsonNodeJsonString(value);
+      return (JsonString) this.adaptChild(index, value);
     }
     throw new ClassCastException(JsonNodeType.STRING + " expected but got: " + nodeType);
   }
 
+  @SuppressWarnings("unchecked")
   @Override
   public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
-    // not optimized
-    int size = this.jsonNode.size();
-    List<JsonValue> list = new ArrayList<>(size);
-    for (int i = 0; i < size; i++) {
-      JsonNode value = this.jsonNode.get(i);
-      JsonValue jsonValue = JsonNodeAdapter.adapt(value);
-      list.add(jsonValue);
+    Objects.requireNonNull(clazz, "clazz");
+    if (clazz == JsonValue.class) {
+      // every element is a JsonValue
+      return (List<T>) this;
     }
-    return (List<T>) list;
+    return new ValuesAs<>(clazz);
   }
 
   @Override
@@ -290,13 +462,43 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     List<T> result = new ArrayList<>(size);
     for (int i = 0; i < size; i++) {
       JsonNode value = this.jsonNode.get(i);
-      K jsonValue = (K) JsonNodeAdapter.adapt(value);
+      K jsonValue = (K) this.adaptChild(i, value);
       T element = func.apply(jsonValue);
       result.add(element);
     }
     return result;
   }
 
+  @Override
+  public int[] getIntArray(NumberConversion conversion) {
+    return PrimitiveArrays.getIntArray(this.jsonNode, conversion);
+  }
+
+  @Override
+  public int getIntArray(NumberConversion conversion, int[] destination, int offset) {
+    return PrimitiveArrays.getIntArray(this.jsonNode, conversion, destination, offset);
+  }
+
+  @Override
+  public long[] getLongArray(NumberConversion conversion) {
+    return PrimitiveArrays.getLongArray(this.jsonNode, conversion);
+  }
+
+  @Override
+  public int getLongArray(NumberConversion conversion, long[] destination, int offset) {
+    return PrimitiveArrays.getLongArray(this.jsonNode, conversion, destination, offset);
+  }
+
+  @Override
+  public double[] getDoubleArray(NumberConversion conversion) {
+    return PrimitiveArrays.getDoubleArray(this.jsonNode, conversion);
+  }
+
+  @Override
+  public int getDoubleArray(NumberConversion conversion, double[] destination, int offset) {
+    return PrimitiveArrays.getDoubleArray(this.jsonNode, conversion, destination, offset);
+  }
+
   @Override
   public String getString(int index) {
     JsonNode value = this.jsonNode.get(Objects.checkIndex(index, this.size()));
@@ -383,21 +585,55 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
     if (!(obj instanceof JsonArray other)) {
       return false;
     }
+    if (this.mode == ViewMode.FROZEN && other instanceof JsonNodeJsonArray otherArray
+            && otherArray.mode == ViewMode.FROZEN && this.hashCode() != otherArray.hashCode()) {
+      return false;
+    }
+    if (other instanceof JsonNodeValue nodeValue) {
+      return JsonNodeAdapter.nodeEquals(this.jsonNode, nodeValue.getJsonNode());
+    }
     return JsonNodeAdapter.arrayEquals(this.jsonNode, other);
   }
 
   @Override
   public int hashCode() {
-    return JsonNodeAdapter.arrayHashCode(this.jsonNode);
+    if (this.mode != ViewMode.FROZEN) {
+      return JsonNodeAdapter.arrayHashCode(this.jsonNode);
+    }
+    int h = this.hash;
+    if (h == 0 && !this.hashIsZero) {
+      h = this.frozenHashCode();
+      if (h == 0) {
+        this.hashIsZero = true;
+      } else {
+        this.hash = h;
+      }
+    }
+    return h;
+  }
+
+  private int frozenHashCode() {
+    // same as JsonNodeAdapter#arrayHashCode but reuses the hash codes of the child views
+    int hashCode = 1;
+    for (int i = 0; i < this.jsonNode.size(); i++) {
+      JsonNode child = this.jsonNode.get(i);
+      int childHash = child.isContainerNode() ? this.adaptChild(i, child).hashCode() : JsonNodeAdapter.hashCode(child);
+      hashCode = 31 * hashCode + childHash;
+    }
+    return hashCode;
   }
 
   @Override
   public String toString() {
-    try {
-      return JsonNodeAdapter.OBJECT_MAPPER.writeValueAsString(this.jsonNode);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("could not serialize JsonNode", e);
+    if (this.mode != ViewMode.FROZEN) {
+      return JsonNodeAdapter.toString(this.jsonNode);
+    }
+    String s = this.string;
+    if (s == null) {
+      s = JsonNodeAdapter.toString(this.jsonNode);
+      this.string = s;
     }
+    return s;
   }
 
   final class JsonValueIterator implements ListIterator<JsonValue> {
@@ -468,10 +704,74 @@ final class JsonNodeJsonArray implements JsonArray, RandomAccess {
 
     @Override
     public void forEachRemaining(Consumer<? super JsonValue> action) {
-      for (int i = this.currentIndex; i < size(); i++) {
-        action.accept(get(i));
+      Objects.requireNonNull(action);
+      int size = size();
+      JsonNodeJsonArray.this.forEach(action, this.currentIndex, size);
+      this.currentIndex = size;
+    }
+
+  }
+
+  /**
+   * Index based {@link Spliterator} that splits in halves, allows parallel
+   * streams to scale.
+   */
+  static final class JsonValueSpliterator implements Spliterator<JsonValue> {
+
+    private final JsonNodeJsonArray array;
+    private int index;
+    private final int fence;
+
+    JsonValueSpliterator(JsonNodeJsonArray array, int origin, int fence) {
+      this.array = array;
+      this.index = origin;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonValue> action) {
+      Objects.requireNonNull(action);
+      if (this.index < this.fence) {
+        int current = this.index;
+        JsonNode value = this.array.jsonNode.get(current);
+        this.index += 1;
+        action.accept(this.array.adaptChild(current, value));
+        return true;
       }
-      this.currentIndex = size();
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super JsonValue> action) {
+      Objects.requireNonNull(action);
+      JsonNodeJsonArray localArray = this.array;
+      JsonNode localNode = localArray.jsonNode;
+      int localFence = this.fence;
+      for (int i = this.index; i < localFence; i++) {
+        action.accept(localArray.adaptChild(i, localNode.get(i)));
+      }
+      this.index = localFence;
+    }
+
+    @Override
+    public Spliterator<JsonValue> trySplit() {
+      int low = this.index;
+      int middle = (low + this.fence) >>> 1;
+      if (low >= middle) {
+        return null;
+      }
+      this.index = middle;
+      return new JsonValueSpliterator(this.array, low, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
     }
 
   }
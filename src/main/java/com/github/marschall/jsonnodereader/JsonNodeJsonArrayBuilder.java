@@ -0,0 +1,447 @@
+package com.github.marschall.jsonnodereader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+
+/**
+ * A {@link JsonArrayBuilder} seeded from an existing array that does not
+ * copy it.
+ * <p>
+ * The array node of the initial array is kept as an untouched base layer,
+ * the builder only records the elements that are replaced or appended.
+ * {@link #build()} returns a view on an {@link ArrayNode} that combines both
+ * layers, the base elements are neither copied nor adapted. Inserting or
+ * removing an element of the base layer copies the base layer once.
+ * <p>
+ * The initial array must not be changed while the builder or a built array
+ * are in use. Built arrays are read-only. Like other builders
+ * {@link #build()} resets the builder to an empty array.
+ */
+public final class JsonNodeJsonArrayBuilder implements JsonArrayBuilder {
+
+  /**
+   * The base layer, {@code null} if there is none.
+   */
+  private JsonNode base;
+
+  private int baseSize;
+
+  /**
+   * Replaced elements of the base layer by index, created on first use.
+   */
+  private Map<Integer, JsonNode> replaced;
+
+  /**
+   * Elements after the base layer.
+   */
+  private List<JsonNode> appended;
+
+  /**
+   * Initializes a {@link JsonNodeJsonArrayBuilder}.
+   *
+   * @param jsonArray the initial array, not {@code null}, views created by
+   *                  {@link JsonNodeValues} are used as the base without
+   *                  being adapted
+   */
+  public JsonNodeJsonArrayBuilder(JsonArray jsonArray) {
+    Objects.requireNonNull(jsonArray, "jsonArray");
+    this.base = JsonValueAdapter.adapt(jsonArray);
+    this.baseSize = this.base.size();
+    this.appended = new ArrayList<>();
+  }
+
+  private int size() {
+    return this.baseSize + this.appended.size();
+  }
+
+  private void append(JsonNode value) {
+    this.appended.add(value);
+  }
+
+  private void insert(int index, JsonNode value) {
+    Objects.checkIndex(index, this.size() + 1);
+    if (index < this.baseSize) {
+      this.copyBase();
+    }
+    this.appended.add(index - this.baseSize, value);
+  }
+
+  private void set(int index, JsonNode value) {
+    Objects.checkIndex(index, this.size());
+    if (index < this.baseSize) {
+      Map<Integer, JsonNode> localReplaced = this.replaced;
+      if (localReplaced == null) {
+        localReplaced = new HashMap<>();
+        this.replaced = localReplaced;
+      }
+      localReplaced.put(index, value);
+    } else {
+      this.appended.set(index - this.baseSize, value);
+    }
+  }
+
+  /**
+   * Merges the base layer into the appended elements, needed when elements
+   * of the base layer move.
+   */
+  private void copyBase() {
+    List<JsonNode> elements = new ArrayList<>(this.size() + 1);
+    elements.addAll(this.elements());
+    this.base = null;
+    this.baseSize = 0;
+    this.replaced = null;
+    this.appended = elements;
+  }
+
+  @Override
+  public JsonArrayBuilder add(JsonValue value) {
+    Objects.requireNonNull(value, "value");
+    this.append(JsonValueAdapter.adapt(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(String value) {
+    Objects.requireNonNull(value, "value");
+    this.append(TextNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(BigDecimal value) {
+    Objects.requireNonNull(value, "value");
+    this.append(DecimalNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(BigInteger value) {
+    Objects.requireNonNull(value, "value");
+    this.append(BigIntegerNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int value) {
+    this.append(IntNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(long value) {
+    this.append(LongNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(double value) {
+    this.append(JsonNodeJsonObjectBuilder.doubleNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(boolean value) {
+    this.append(BooleanNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder addNull() {
+    this.append(NullNode.getInstance());
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(JsonObjectBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.append(JsonNodeJsonObjectBuilder.buildNode(builder));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(JsonArrayBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.append(buildNode(builder));
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Other builders are built to get their elements.
+   */
+  @Override
+  public JsonArrayBuilder addAll(JsonArrayBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    if (builder instanceof JsonNodeJsonArrayBuilder other) {
+      // copy first, other may be this
+      this.appended.addAll(new ArrayList<>(other.elements()));
+    } else {
+      for (JsonValue element : builder.build()) {
+        this.append(JsonValueAdapter.adapt(element));
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, JsonValue value) {
+    Objects.requireNonNull(value, "value");
+    this.insert(index, JsonValueAdapter.adapt(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, String value) {
+    Objects.requireNonNull(value, "value");
+    this.insert(index, TextNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, BigDecimal value) {
+    Objects.requireNonNull(value, "value");
+    this.insert(index, DecimalNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, BigInteger value) {
+    Objects.requireNonNull(value, "value");
+    this.insert(index, BigIntegerNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, int value) {
+    this.insert(index, IntNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, long value) {
+    this.insert(index, LongNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, double value) {
+    this.insert(index, JsonNodeJsonObjectBuilder.doubleNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, boolean value) {
+    this.insert(index, BooleanNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder addNull(int index) {
+    this.insert(index, NullNode.getInstance());
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, JsonObjectBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.insert(index, JsonNodeJsonObjectBuilder.buildNode(builder));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder add(int index, JsonArrayBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.insert(index, buildNode(builder));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, JsonValue value) {
+    Objects.requireNonNull(value, "value");
+    this.set(index, JsonValueAdapter.adapt(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, String value) {
+    Objects.requireNonNull(value, "value");
+    this.set(index, TextNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, BigDecimal value) {
+    Objects.requireNonNull(value, "value");
+    this.set(index, DecimalNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, BigInteger value) {
+    Objects.requireNonNull(value, "value");
+    this.set(index, BigIntegerNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, int value) {
+    this.set(index, IntNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, long value) {
+    this.set(index, LongNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, double value) {
+    this.set(index, JsonNodeJsonObjectBuilder.doubleNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, boolean value) {
+    this.set(index, BooleanNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder setNull(int index) {
+    this.set(index, NullNode.getInstance());
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, JsonObjectBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.set(index, JsonNodeJsonObjectBuilder.buildNode(builder));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder set(int index, JsonArrayBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.set(index, buildNode(builder));
+    return this;
+  }
+
+  @Override
+  public JsonArrayBuilder remove(int index) {
+    Objects.checkIndex(index, this.size());
+    if (index < this.baseSize) {
+      this.copyBase();
+    }
+    this.appended.remove(index - this.baseSize);
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned array is a view that shares the base layer with the
+   * initial array.
+   */
+  @Override
+  public JsonArray build() {
+    return new JsonNodeJsonArray(this.buildArrayNode());
+  }
+
+  private ArrayNode buildArrayNode() {
+    ArrayNode arrayNode = new ArrayNode(JsonNodeFactory.instance, this.elements());
+    // hand the layers over to the built array
+    this.base = null;
+    this.baseSize = 0;
+    this.replaced = null;
+    this.appended = new ArrayList<>();
+    return arrayNode;
+  }
+
+  private List<JsonNode> elements() {
+    if (this.base == null) {
+      return this.appended;
+    }
+    return new OverlayList(this.base, this.baseSize, this.replaced, this.appended);
+  }
+
+  static JsonNode buildNode(JsonArrayBuilder builder) {
+    if (builder instanceof JsonNodeJsonArrayBuilder nodeBuilder) {
+      return nodeBuilder.buildArrayNode();
+    }
+    return JsonValueAdapter.adapt(builder.build());
+  }
+
+  /**
+   * Read-only list of the elements of a base array with replaced and
+   * appended elements on top.
+   */
+  static final class OverlayList extends AbstractList<JsonNode> implements RandomAccess {
+
+    private final JsonNode base;
+
+    private final int baseSize;
+
+    private final Map<Integer, JsonNode> replaced;
+
+    private final List<JsonNode> appended;
+
+    OverlayList(JsonNode base, int baseSize, Map<Integer, JsonNode> replaced, List<JsonNode> appended) {
+      this.base = base;
+      this.baseSize = baseSize;
+      this.replaced = replaced;
+      this.appended = appended;
+    }
+
+    @Override
+    public JsonNode get(int index) {
+      if (index >= this.baseSize) {
+        return this.appended.get(index - this.baseSize);
+      }
+      Objects.checkIndex(index, this.baseSize);
+      if (this.replaced != null) {
+        JsonNode value = this.replaced.get(index);
+        if (value != null) {
+          return value;
+        }
+      }
+      return this.base.get(index);
+    }
+
+    @Override
+    public int size() {
+      return this.baseSize + this.appended.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.size() == 0;
+    }
+
+  }
+
+}
@@ -0,0 +1,322 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Computes the differences between two Jackson trees.
+ * <p>
+ * The hash codes of all subtrees are computed bottom-up once per diff.
+ * Subtrees that are the same instance are skipped without looking at them,
+ * subtrees with different hash codes are known to differ without comparing
+ * them. Only subtrees with equal hash codes are compared, each at most once
+ * at the topmost level where they are equal.
+ * <p>
+ * Arrays are compared by trimming the common prefix and suffix and computing
+ * the longest common subsequence of the remaining elements, keyed by the
+ * equivalence classes of the elements. Elements between matches are diffed
+ * pairwise. Arrays whose remaining parts are too large for the longest common
+ * subsequence are diffed pairwise only.
+ */
+public final class JsonNodeJsonDiff {
+
+  /**
+   * Upper bound for the cells of the longest common subsequence table.
+   */
+  private static final long MAX_LCS_CELLS = 1L << 22;
+
+  /**
+   * Hash codes of container nodes of both trees.
+   */
+  private final Map<JsonNode, Integer> hashCodes;
+
+  private final ArrayNode operations;
+
+  private int classCount;
+
+  private JsonNodeJsonDiff() {
+    this.hashCodes = new IdentityHashMap<>();
+    this.operations = JsonNodeFactory.instance.arrayNode();
+  }
+
+  /**
+   * Computes a JSON Patch that turns a source tree into a target tree.
+   *
+   * @param source the source tree, not {@code null}
+   * @param target the target tree, not {@code null}
+   * @return the patch that applied to {@code source} results in
+   *         {@code target}, values in the patch are shared with
+   *         {@code target}
+   */
+  public static JsonNodeJsonPatch diff(JsonNode source, JsonNode target) {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+    JsonNodeJsonDiff diff = new JsonNodeJsonDiff();
+    diff.diff("", source, target);
+    return new JsonNodeJsonPatch(new JsonNodeJsonArray(diff.operations));
+  }
+
+  /**
+   * Computes a JSON Merge Patch that turns a source tree into a target tree.
+   * <p>
+   * Like every JSON Merge Patch the result can not set members to
+   * {@code null}.
+   *
+   * @param source the source tree, not {@code null}
+   * @param target the target tree, not {@code null}
+   * @return the merge patch that applied to {@code source} results in
+   *         {@code target}, values in the patch are shared with
+   *         {@code target}
+   */
+  public static JsonNodeJsonMergePatch mergeDiff(JsonNode source, JsonNode target) {
+    Objects.requireNonNull(source, "source");
+    Objects.requireNonNull(target, "target");
+    JsonNodeJsonDiff diff = new JsonNodeJsonDiff();
+    return new JsonNodeJsonMergePatch(JsonNodeAdapter.adapt(diff.mergeDiffNode(source, target)));
+  }
+
+  private JsonNode mergeDiffNode(JsonNode source, JsonNode target) {
+    if (!source.isObject() || !target.isObject()) {
+      return target;
+    }
+    ObjectNode patch = JsonNodeFactory.instance.objectNode();
+    for (Entry<String, JsonNode> member : source.properties()) {
+      String name = member.getKey();
+      JsonNode targetValue = target.get(name);
+      if (targetValue == null) {
+        patch.set(name, NullNode.getInstance());
+      } else if (!this.same(member.getValue(), targetValue)) {
+        patch.set(name, this.mergeDiffNode(member.getValue(), targetValue));
+      }
+    }
+    for (Entry<String, JsonNode> member : target.properties()) {
+      String name = member.getKey();
+      if (source.get(name) == null) {
+        patch.set(name, member.getValue());
+      }
+    }
+    return patch;
+  }
+
+  private void diff(String path, JsonNode source, JsonNode target) {
+    if (this.same(source, target)) {
+      return;
+    }
+    if (source.isObject() && target.isObject()) {
+      this.diffObject(path, source, target);
+    } else if (source.isArray() && target.isArray()) {
+      this.diffArray(path, source, target);
+    } else {
+      this.operation("replace", path).set("value", target);
+    }
+  }
+
+  private void diffObject(String path, JsonNode source, JsonNode target) {
+    for (Entry<String, JsonNode> member : source.properties()) {
+      String name = member.getKey();
+      JsonNode targetValue = target.get(name);
+      if (targetValue == null) {
+        this.operation("remove", childPath(path, name));
+      } else {
+        this.diff(childPath(path, name), member.getValue(), targetValue);
+      }
+    }
+    for (Entry<String, JsonNode> member : target.properties()) {
+      String name = member.getKey();
+      if (source.get(name) == null) {
+        this.operation("add", childPath(path, name)).set("value", member.getValue());
+      }
+    }
+  }
+
+  private void diffArray(String path, JsonNode source, JsonNode target) {
+    int sourceSize = source.size();
+    int targetSize = target.size();
+    int prefix = 0;
+    while (prefix < sourceSize && prefix < targetSize && this.same(source.get(prefix), target.get(prefix))) {
+      prefix += 1;
+    }
+    int suffix = 0;
+    while (suffix < sourceSize - prefix && suffix < targetSize - prefix
+            && this.same(source.get(sourceSize - 1 - suffix), target.get(targetSize - 1 - suffix))) {
+      suffix += 1;
+    }
+    int sourceEnd = sourceSize - suffix;
+    int targetEnd = targetSize - suffix;
+    long cells = (long) (sourceEnd - prefix + 1) * (targetEnd - prefix + 1);
+    if (prefix == sourceEnd || prefix == targetEnd || cells > MAX_LCS_CELLS) {
+      this.diffRange(path, source, prefix, sourceEnd, target, prefix, targetEnd, prefix);
+      return;
+    }
+
+    // equivalence classes of the elements, equal elements share a class
+    int[] sourceClasses = new int[sourceEnd - prefix];
+    int[] targetClasses = new int[targetEnd - prefix];
+    Map<Integer, List<Representative>> representatives = new HashMap<>();
+    for (int i = 0; i < sourceClasses.length; i++) {
+      sourceClasses[i] = this.equivalenceClass(source.get(prefix + i), representatives);
+    }
+    for (int i = 0; i < targetClasses.length; i++) {
+      targetClasses[i] = this.equivalenceClass(target.get(prefix + i), representatives);
+    }
+
+    // lengths of the longest common subsequences of the suffixes
+    int rows = sourceClasses.length;
+    int columns = targetClasses.length;
+    int[] lengths = new int[(rows + 1) * (columns + 1)];
+    for (int i = rows - 1; i >= 0; i--) {
+      for (int j = columns - 1; j >= 0; j--) {
+        int cell = i * (columns + 1) + j;
+        if (sourceClasses[i] == targetClasses[j]) {
+          lengths[cell] = lengths[cell + columns + 2] + 1;
+        } else {
+          lengths[cell] = Math.max(lengths[cell + columns + 1], lengths[cell + 1]);
+        }
+      }
+    }
+
+    // walk the matches, diff the gaps between them
+    int index = prefix;
+    int i = 0;
+    int j = 0;
+    int gapSource = 0;
+    int gapTarget = 0;
+    while (i < rows && j < columns) {
+      int cell = i * (columns + 1) + j;
+      if (sourceClasses[i] == targetClasses[j]) {
+        index = this.diffRange(path, source, prefix + gapSource, prefix + i, target, prefix + gapTarget, prefix + j, index);
+        // the matched element
+        index += 1;
+        i += 1;
+        j += 1;
+        gapSource = i;
+        gapTarget = j;
+      } else if (lengths[cell + columns + 1] >= lengths[cell + 1]) {
+        i += 1;
+      } else {
+        j += 1;
+      }
+    }
+    this.diffRange(path, source, prefix + gapSource, sourceEnd, target, prefix + gapTarget, targetEnd, index);
+  }
+
+  /**
+   * Diffs a range of elements that have no matches pairwise, then removes or
+   * adds the remaining elements.
+   *
+   * @param index the index of the first element of the range in the array as
+   *              patched so far
+   * @return the index after the range in the array as patched so far
+   */
+  private int diffRange(String path, JsonNode source, int sourceStart, int sourceEnd,
+          JsonNode target, int targetStart, int targetEnd, int index) {
+    int sourceLength = sourceEnd - sourceStart;
+    int targetLength = targetEnd - targetStart;
+    int paired = Math.min(sourceLength, targetLength);
+    int current = index;
+    for (int k = 0; k < paired; k++) {
+      this.diff(childPath(path, current), source.get(sourceStart + k), target.get(targetStart + k));
+      current += 1;
+    }
+    for (int k = paired; k < sourceLength; k++) {
+      this.operation("remove", childPath(path, current));
+    }
+    for (int k = paired; k < targetLength; k++) {
+      this.operation("add", childPath(path, current)).set("value", target.get(targetStart + k));
+      current += 1;
+    }
+    return current;
+  }
+
+  private int equivalenceClass(JsonNode node, Map<Integer, List<Representative>> representatives) {
+    List<Representative> candidates = representatives.computeIfAbsent(this.hashCode(node), key -> new ArrayList<>(1));
+    for (Representative candidate : candidates) {
+      if (candidate.node() == node || JsonNodeAdapter.nodeEquals(candidate.node(), node)) {
+        return candidate.id();
+      }
+    }
+    int id = this.classCount;
+    this.classCount += 1;
+    candidates.add(new Representative(node, id));
+    return id;
+  }
+
+  private boolean same(JsonNode source, JsonNode target) {
+    if (source == target) {
+      return true;
+    }
+    if (source.getNodeType() != target.getNodeType()) {
+      return false;
+    }
+    if (source.isContainerNode() && (source.size() != target.size() || this.hashCode(source) != this.hashCode(target))) {
+      return false;
+    }
+    return JsonNodeAdapter.nodeEquals(source, target);
+  }
+
+  /**
+   * Hash code of a node, consistent with {@link JsonNodeAdapter#nodeEquals(JsonNode, JsonNode)}.
+   * Computed once for every container node.
+   */
+  private int hashCode(JsonNode node) {
+    if (!node.isContainerNode()) {
+      return JsonNodeAdapter.hashCode(node);
+    }
+    Integer cached = this.hashCodes.get(node);
+    if (cached != null) {
+      return cached;
+    }
+    int hashCode;
+    if (node.isObject()) {
+      // order independent like object equality
+      hashCode = 0;
+      for (Entry<String, JsonNode> member : node.properties()) {
+        hashCode += member.getKey().hashCode() ^ this.hashCode(member.getValue());
+      }
+    } else {
+      hashCode = 1;
+      for (JsonNode element : node) {
+        hashCode = 31 * hashCode + this.hashCode(element);
+      }
+    }
+    this.hashCodes.put(node, hashCode);
+    return hashCode;
+  }
+
+  private ObjectNode operation(String op, String path) {
+    ObjectNode operation = this.operations.addObject();
+    operation.put("op", op);
+    operation.put("path", path);
+    return operation;
+  }
+
+  private static String childPath(String path, int index) {
+    return path + '/' + index;
+  }
+
+  private static String childPath(String path, String name) {
+    if (name.indexOf('~') == -1 && name.indexOf('/') == -1) {
+      return path + '/' + name;
+    }
+    return path + '/' + name.replace("~", "~0").replace("/", "~1");
+  }
+
+  /**
+   * The first element of an equivalence class.
+   */
+  record Representative(JsonNode node, int id) {
+
+  }
+
+}
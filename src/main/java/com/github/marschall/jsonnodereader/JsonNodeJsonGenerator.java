@@ -0,0 +1,353 @@
+package com.github.marschall.jsonnodereader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A Jakarta {@link JsonGenerator} that builds a Jackson {@link JsonNode}.
+ * <p>
+ * Writing a {@link JsonValue} created by this library attaches the backing
+ * Jackson node to the tree instead of copying it.
+ * <p>
+ * Once the root value is complete it can be retrieved with {@link #getResult()}.
+ */
+public final class JsonNodeJsonGenerator implements JsonGenerator {
+
+  private static final int INITIAL_DEPTH = 8;
+
+  private final JsonNodeFactory nodeFactory;
+
+  private ContainerNode<?>[] containers;
+
+  private int depth;
+
+  private String key;
+
+  private JsonNode root;
+
+  /**
+   * Initializes a {@link JsonNodeJsonGenerator} that preserves the scale of
+   * {@link BigDecimal}s.
+   */
+  public JsonNodeJsonGenerator() {
+    this(JsonNodeFactory.instance);
+  }
+
+  /**
+   * Initializes a {@link JsonNodeJsonGenerator}.
+   * 
+   * @param nodeFactory the factory used to create the nodes, not {@code null}
+   */
+  public JsonNodeJsonGenerator(JsonNodeFactory nodeFactory) {
+    Objects.requireNonNull(nodeFactory, "nodeFactory");
+    this.nodeFactory = nodeFactory;
+    this.containers = new ContainerNode<?>[INITIAL_DEPTH];
+    this.depth = -1;
+  }
+
+  /**
+   * Returns the generated node.
+   * 
+   * @return the root node generated
+   * @throws IllegalStateException if the root value is not complete yet
+   */
+  public JsonNode getResult() {
+    if (this.root == null || this.depth != -1) {
+      throw new IllegalStateException("root value not complete");
+    }
+    return this.root;
+  }
+
+  private void attach(JsonNode node) {
+    if (this.depth == -1) {
+      if (this.root != null) {
+        throw new JsonGenerationException("root value already written");
+      }
+      this.root = node;
+    } else {
+      ContainerNode<?> container = this.containers[this.depth];
+      if (container.isObject()) {
+        if (this.key == null) {
+          throw new JsonGenerationException("key expected in object");
+        }
+        ((ObjectNode) container).set(this.key, node);
+        this.key = null;
+      } else {
+        ((ArrayNode) container).add(node);
+      }
+    }
+  }
+
+  private void attach(String name, JsonNode node) {
+    Objects.requireNonNull(name, "name");
+    this.checkKeyAllowed();
+    this.key = name;
+    this.attach(node);
+  }
+
+  private void checkKeyAllowed() {
+    if (this.depth == -1 || !this.containers[this.depth].isObject()) {
+      throw new JsonGenerationException("not in an object");
+    }
+    if (this.key != null) {
+      throw new JsonGenerationException("value expected but got key");
+    }
+  }
+
+  private void push(ContainerNode<?> container) {
+    this.depth += 1;
+    if (this.depth == this.containers.length) {
+      this.containers = Arrays.copyOf(this.containers, this.containers.length * 2);
+    }
+    this.containers[this.depth] = container;
+  }
+
+  private JsonGenerator start(ContainerNode<?> container) {
+    this.attach(container);
+    this.push(container);
+    return this;
+  }
+
+  private JsonGenerator start(String name, ContainerNode<?> container) {
+    this.attach(name, container);
+    this.push(container);
+    return this;
+  }
+
+  private JsonNode toJsonNode(JsonValue value) {
+    Objects.requireNonNull(value, "value");
+    if (value instanceof JsonNodeValue jsonNodeValue) {
+      return jsonNodeValue.getJsonNode();
+    }
+    return switch (value.getValueType()) {
+      case OBJECT -> {
+        ObjectNode object = this.nodeFactory.objectNode();
+        for (Entry<String, JsonValue> entry : ((JsonObject) value).entrySet()) {
+          object.set(entry.getKey(), this.toJsonNode(entry.getValue()));
+        }
+        yield object;
+      }
+      case ARRAY -> {
+        ArrayNode array = this.nodeFactory.arrayNode();
+        for (JsonValue element : (JsonArray) value) {
+          array.add(this.toJsonNode(element));
+        }
+        yield array;
+      }
+      case STRING -> this.nodeFactory.textNode(((JsonString) value).getString());
+      case NUMBER -> this.toJsonNode((JsonNumber) value);
+      case TRUE -> this.nodeFactory.booleanNode(true);
+      case FALSE -> this.nodeFactory.booleanNode(false);
+      case NULL -> this.nodeFactory.nullNode();
+    };
+  }
+
+  private JsonNode toJsonNode(JsonNumber number) {
+    if (number.isIntegral()) {
+      BigInteger integer = number.bigIntegerValue();
+      int bitLength = integer.bitLength();
+      if (bitLength < Integer.SIZE) {
+        return this.nodeFactory.numberNode(integer.intValue());
+      } else if (bitLength < Long.SIZE) {
+        return this.nodeFactory.numberNode(integer.longValue());
+      } else {
+        return this.nodeFactory.numberNode(integer);
+      }
+    } else {
+      return this.nodeFactory.numberNode(number.bigDecimalValue());
+    }
+  }
+
+  private static void checkFinite(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new NumberFormatException("NaN and infinity are not supported");
+    }
+  }
+
+  @Override
+  public JsonGenerator writeStartObject() {
+    return this.start(this.nodeFactory.objectNode());
+  }
+
+  @Override
+  public JsonGenerator writeStartObject(String name) {
+    return this.start(name, this.nodeFactory.objectNode());
+  }
+
+  @Override
+  public JsonGenerator writeKey(String name) {
+    Objects.requireNonNull(name, "name");
+    this.checkKeyAllowed();
+    this.key = name;
+    return this;
+  }
+
+  @Override
+  public JsonGenerator writeStartArray() {
+    return this.start(this.nodeFactory.arrayNode());
+  }
+
+  @Override
+  public JsonGenerator writeStartArray(String name) {
+    return this.start(name, this.nodeFactory.arrayNode());
+  }
+
+  @Override
+  public JsonGenerator write(String name, JsonValue value) {
+    this.attach(name, this.toJsonNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String name, String value) {
+    Objects.requireNonNull(value, "value");
+    this.attach(name, this.nodeFactory.textNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String name, BigInteger value) {
+    Objects.requireNonNull(value, "value");
+    this.attach(name, this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String name, BigDecimal value) {
+    Objects.requireNonNull(value, "value");
+    this.attach(name, this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String name, int value) {
+    this.attach(name, this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String name, long value) {
+    this.attach(name, this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String name, double value) {
+    checkFinite(value);
+    this.attach(name, this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String name, boolean value) {
+    this.attach(name, this.nodeFactory.booleanNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator writeNull(String name) {
+    this.attach(name, this.nodeFactory.nullNode());
+    return this;
+  }
+
+  @Override
+  public JsonGenerator writeEnd() {
+    if (this.depth == -1) {
+      throw new JsonGenerationException("not in an object or array");
+    }
+    if (this.key != null) {
+      throw new JsonGenerationException("value expected but got end");
+    }
+    this.containers[this.depth] = null;
+    this.depth -= 1;
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(JsonValue value) {
+    this.attach(this.toJsonNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(String value) {
+    Objects.requireNonNull(value, "value");
+    this.attach(this.nodeFactory.textNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(BigDecimal value) {
+    Objects.requireNonNull(value, "value");
+    this.attach(this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(BigInteger value) {
+    Objects.requireNonNull(value, "value");
+    this.attach(this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(int value) {
+    this.attach(this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(long value) {
+    this.attach(this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(double value) {
+    checkFinite(value);
+    this.attach(this.nodeFactory.numberNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator write(boolean value) {
+    this.attach(this.nodeFactory.booleanNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonGenerator writeNull() {
+    this.attach(this.nodeFactory.nullNode());
+    return this;
+  }
+
+  @Override
+  public void close() {
+    if (this.root == null || this.depth != -1) {
+      throw new JsonGenerationException("incomplete JSON");
+    }
+  }
+
+  @Override
+  public void flush() {
+    // nothing to flush, the tree is built in place
+  }
+
+}
@@ -0,0 +1,143 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonValue;
+
+/**
+ * A <a href="https://tools.ietf.org/html/rfc7386">JSON Merge Patch</a> that
+ * is applied to Jackson trees.
+ * <p>
+ * The result of applying a patch is a new tree that shares every member not
+ * mentioned in the patch with the target, only the objects that are merged
+ * into are copied. Values of the patch are copied when they are inserted so
+ * that results never share nodes with the patch. Callers that own a node can
+ * modify it with {@link #applyInPlace(JsonNode)} instead.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class JsonNodeJsonMergePatch implements JsonMergePatch {
+
+  private final JsonValue patch;
+
+  private final JsonNode patchNode;
+
+  /**
+   * Initializes a {@link JsonNodeJsonMergePatch}.
+   *
+   * @param patch the JSON Merge Patch, not {@code null}
+   */
+  public JsonNodeJsonMergePatch(JsonValue patch) {
+    Objects.requireNonNull(patch, "patch");
+    this.patch = patch;
+    // detach from the patch, members are inserted into results
+    this.patchNode = JsonValueAdapter.adapt(patch).deepCopy();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The result is a view on a new tree that shares unchanged members with
+   * {@code target}.
+   */
+  @Override
+  public JsonValue apply(JsonValue target) {
+    Objects.requireNonNull(target, "target");
+    return JsonNodeAdapter.adapt(this.apply(JsonValueAdapter.adapt(target)));
+  }
+
+  /**
+   * Applies this patch without modifying the target.
+   *
+   * @param target the node to patch, not {@code null}
+   * @return a new tree that shares unchanged members with {@code target}
+   */
+  public JsonNode apply(JsonNode target) {
+    Objects.requireNonNull(target, "target");
+    return merge(target, this.patchNode, false);
+  }
+
+  /**
+   * Applies this patch by modifying the target.
+   *
+   * @param target the node to patch, not {@code null}, must be modifiable
+   * @return the patched node, {@code target} unless it is not an object or
+   *         the patch is not an object
+   */
+  public JsonNode applyInPlace(JsonNode target) {
+    Objects.requireNonNull(target, "target");
+    return merge(target, this.patchNode, true);
+  }
+
+  /**
+   * Merges a patch into a target.
+   *
+   * @param target the target, {@code null} if the member does not exist
+   * @param patch the patch
+   * @param inPlace whether objects of the target may be modified
+   * @return {@code target} if it was not changed or modified in place,
+   *         otherwise the merged node
+   */
+  private static JsonNode merge(JsonNode target, JsonNode patch, boolean inPlace) {
+    if (!patch.isObject()) {
+      // results must not share containers with the patch, deepCopy() returns
+      // scalar nodes as is which is safe because they are immutable
+      return patch.deepCopy();
+    }
+    ObjectNode source = target != null && target.isObject() ? (ObjectNode) target : null;
+    ObjectNode result;
+    if (source == null) {
+      result = JsonNodeFactory.instance.objectNode();
+    } else if (inPlace) {
+      result = source;
+    } else {
+      // copied on first change
+      result = null;
+    }
+    Iterator<Entry<String, JsonNode>> members = patch.fields();
+    while (members.hasNext()) {
+      Entry<String, JsonNode> member = members.next();
+      String name = member.getKey();
+      JsonNode value = member.getValue();
+      JsonNode current = source != null ? source.get(name) : null;
+      if (value.isNull()) {
+        if (current != null) {
+          result = writable(source, result);
+          result.remove(name);
+        }
+      } else {
+        JsonNode merged = merge(current, value, inPlace);
+        if (merged != current) {
+          result = writable(source, result);
+          result.set(name, merged);
+        }
+      }
+    }
+    return result != null ? result : source;
+  }
+
+  private static ObjectNode writable(ObjectNode source, ObjectNode result) {
+    if (result != null) {
+      return result;
+    }
+    return JsonNodeFactory.instance.objectNode().setAll(source);
+  }
+
+  @Override
+  public JsonValue toJsonValue() {
+    return this.patch;
+  }
+
+  @Override
+  public String toString() {
+    return this.patch.toString();
+  }
+
+}
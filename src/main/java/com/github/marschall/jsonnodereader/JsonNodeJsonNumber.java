@@ -8,7 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import jakarta.json.JsonNumber;
 
-final class JsonNodeJsonNumber implements JsonNumber {
+final class JsonNodeJsonNumber implements JsonNumber, JsonNodeValue {
   
   private final JsonNode jsonNode;
 
@@ -17,6 +17,11 @@ final class JsonNodeJsonNumber implements JsonNumber {
     this.jsonNode = jsonNode;
   }
 
+  @Override
+  public JsonNode getJsonNode() {
+    return this.jsonNode;
+  }
+
   @Override
   public ValueType getValueType() {
     return ValueType.NUMBER;
@@ -86,14 +91,12 @@ final class JsonNodeJsonNumber implements JsonNumber {
   
   @Override
   public int hashCode() {
-    // BigDecimal allocation could be avoided for int/log
-    return bigDecimalValue().hashCode();
+    return JsonNodeNumbers.hashCode(this.jsonNode);
   }
   
   @Override
   public String toString() {
-    // BigDecimal allocation could be avoided for int/log
-    return bigDecimalValue().toString();
+    return JsonNodeNumbers.toString(this.jsonNode);
   }
 
   @Override
@@ -104,7 +107,7 @@ final class JsonNodeJsonNumber implements JsonNumber {
     if (!(obj instanceof JsonNumber other)) {
       return false;
     }
-    return this.bigDecimalValue().equals(other.bigDecimalValue());
+    return JsonNodeNumbers.equals(this.jsonNode, other);
   }
 
 }
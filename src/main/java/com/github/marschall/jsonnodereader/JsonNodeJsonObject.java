@@ -1,13 +1,13 @@
 package com.github.marschall.jsonnodereader;
 
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 
@@ -17,13 +17,111 @@ import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 
-final class JsonNodeJsonObject implements JsonObject {
+final class JsonNodeJsonObject implements JsonObject, JsonNodeValue {
+
+  /**
+   * Objects up to this size retain the views on their children in
+   * {@link #slots}.
+   */
+  private static final int MAX_SLOTS = 8;
   
   private final JsonNode jsonNode;
 
+  private final ViewMode mode;
+
+  /**
+   * Retained views on children of small objects in access order, created on
+   * first access, only used with {@link ViewMode#MEMOIZED} and
+   * {@link ViewMode#FROZEN}.
+   */
+  private JsonNodeValue[] slots;
+
+  /**
+   * Retained views on children of large objects or small objects that ran
+   * out of slots.
+   */
+  private RetainedViews children;
+
+  /**
+   * Cached hash code, only used with {@link ViewMode#FROZEN}.
+   */
+  private int hash;
+
+  /**
+   * Whether the cached hash code has been computed as 0.
+   */
+  private boolean hashIsZero;
+
+  /**
+   * Cached string representation, only used with {@link ViewMode#FROZEN}.
+   */
+  private String string;
+
   JsonNodeJsonObject(JsonNode jsonNode) {
+    this(jsonNode, ViewMode.LIVE);
+  }
+
+  JsonNodeJsonObject(JsonNode jsonNode, ViewMode mode) {
     Objects.requireNonNull(jsonNode, "jsonNode");
     this.jsonNode = jsonNode;
+    this.mode = mode;
+  }
+
+  JsonValue adaptChild(String name, JsonNode child) {
+    if (this.mode == ViewMode.LIVE) {
+      return JsonNodeAdapter.adapt(child);
+    }
+    JsonNodeValue[] localSlots = this.slots;
+    if (localSlots != null) {
+      // a view on the same node is correct whatever name it was retained for
+      for (JsonNodeValue retained : localSlots) {
+        if (retained != null && retained.getJsonNode() == child) {
+          return retained;
+        }
+      }
+    } else {
+      RetainedViews localChildren = this.children;
+      if (localChildren != null) {
+        JsonNodeValue retained = localChildren.get(child);
+        if (retained != null) {
+          return retained;
+        }
+      }
+    }
+    JsonValue adapted = JsonNodeAdapter.adapt(child, this.mode);
+    if (adapted instanceof JsonNodeValue value) {
+      this.retain(value);
+    }
+    return adapted;
+  }
+
+  private void retain(JsonNodeValue value) {
+    // benign races, a lost array, table or slot only loses retained views
+    JsonNodeValue[] localSlots = this.slots;
+    if (localSlots == null && this.children == null && this.jsonNode.size() <= MAX_SLOTS) {
+      localSlots = new JsonNodeValue[Math.max(this.jsonNode.size(), 1)];
+      this.slots = localSlots;
+    }
+    if (localSlots != null) {
+      for (int i = 0; i < localSlots.length; i++) {
+        if (localSlots[i] == null) {
+          localSlots[i] = value;
+          return;
+        }
+      }
+    }
+    RetainedViews localChildren = this.children;
+    if (localChildren == null) {
+      localChildren = new RetainedViews();
+      this.children = localChildren;
+      this.slots = null;
+    }
+    localChildren.put(value, this.jsonNode.size());
+  }
+
+  @Override
+  public JsonNode getJsonNode() {
+    return this.jsonNode;
   }
 
   @Override
@@ -72,7 +170,7 @@ final class JsonNodeJsonObject implements JsonObject {
     }
     JsonNode child = this.jsonNode.get(s);
     if (child != null) {
-      return JsonNodeAdapter.adapt(child);
+      return this.adaptChild(s, child);
     } else {
       return null;
     }
@@ -100,27 +198,17 @@ final class JsonNodeJsonObject implements JsonObject {
 
   @Override
   public Set<String> keySet() {
-    // not optimized
-    return this.jsonNode.properties().stream()
-      .map(Entry::getKey)
-      .collect(Collectors.toSet());
+    return new KeySet(this.jsonNode);
   }
 
   @Override
   public Collection<JsonValue> values() {
-    // not optimized
-    return this.jsonNode.properties().stream()
-      .map(Entry::getValue)
-      .map(JsonNodeAdapter::adapt)
-      .toList();
+    return new Values(this);
   }
 
   @Override
   public Set<Entry<String, JsonValue>> entrySet() {
-    // not optimized
-    return this.jsonNode.properties().stream()
-      .map(entry -> Map.entry(entry.getKey(), JsonNodeAdapter.adapt(entry.getValue())))
-      .collect(Collectors.toSet());
+    return new EntrySet(this);
   }
 
   @Override
@@ -131,7 +219,7 @@ final class JsonNodeJsonObject implements JsonObject {
     }
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.ARRAY) {
-      return new JsonNodeJsonArray(value);
+      return (JsonArray) this.adaptChild(name, value);
     }
     throw new ClassCastException(JsonNodeType.ARRAY + " expected but got: " + nodeType);
   }
@@ -144,7 +232,7 @@ final class JsonNodeJsonObject implements JsonObject {
     }
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.OBJECT) {
-      return new JsonNodeJsonObject(value);
+      return (JsonObject) this.adaptChild(name, value);
     }
     throw new ClassCastException(JsonNodeType.OBJECT + " expected but got: " + nodeType);
   }
@@ -157,7 +245,7 @@ final class JsonNodeJsonObject implements JsonObject {
     }
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.NUMBER) {
-      return new JsonNodeJsonNumber(value);
+      return (JsonNumber) this.adaptChild(name, value);
     }
     throw new ClassCastException(JsonNodeType.NUMBER + " expected but got: " + nodeType);
   }
@@ -170,7 +258,7 @@ final class JsonNodeJsonObject implements JsonObject {
     }
     JsonNodeType nodeType = value.getNodeType();
     if (nodeType == JsonNodeType.STRING) {
-      return new JsonNodeJsonString(value);
+      return (JsonString) this.adaptChild(name, value);
     }
     throw new ClassCastException(JsonNodeType.STRING + " expected but got: " + nodeType);
   }
@@ -270,21 +358,206 @@ final class JsonNodeJsonObject implements JsonObject {
     if (!(obj instanceof JsonObject other)) {
       return false;
     }
+    if (this.mode == ViewMode.FROZEN && other instanceof JsonNodeJsonObject otherObject
+            && otherObject.mode == ViewMode.FROZEN && this.hashCode() != otherObject.hashCode()) {
+      return false;
+    }
+    if (other instanceof JsonNodeValue nodeValue) {
+      return JsonNodeAdapter.nodeEquals(this.jsonNode, nodeValue.getJsonNode());
+    }
     return JsonNodeAdapter.objectEquals(this.jsonNode, other);
   }
 
   @Override
   public int hashCode() {
-    return JsonNodeAdapter.objectHashCode(this.jsonNode);
+    if (this.mode != ViewMode.FROZEN) {
+      return JsonNodeAdapter.objectHashCode(this.jsonNode);
+    }
+    int h = this.hash;
+    if (h == 0 && !this.hashIsZero) {
+      h = this.frozenHashCode();
+      if (h == 0) {
+        this.hashIsZero = true;
+      } else {
+        this.hash = h;
+      }
+    }
+    return h;
+  }
+
+  private int frozenHashCode() {
+    // same as JsonNodeAdapter#objectHashCode but reuses the hash codes of the child views
+    int hashCode = 0;
+    for (Entry<String, JsonNode> property : this.jsonNode.properties()) {
+      String name = property.getKey();
+      JsonNode child = property.getValue();
+      int childHash = child.isContainerNode() ? this.adaptChild(name, child).hashCode() : JsonNodeAdapter.hashCode(child);
+      hashCode += name.hashCode() ^ childHash;
+    }
+    return hashCode;
   }
 
   @Override
   public String toString() {
-    try {
-      return JsonNodeAdapter.OBJECT_MAPPER.writeValueAsString(this.jsonNode);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("could not serialize JsonNode", e);
+    if (this.mode != ViewMode.FROZEN) {
+      return JsonNodeAdapter.toString(this.jsonNode);
+    }
+    String s = this.string;
+    if (s == null) {
+      s = JsonNodeAdapter.toString(this.jsonNode);
+      this.string = s;
+    }
+    return s;
+  }
+
+  /**
+   * Read-only live view on the property names of an object node.
+   */
+  static final class KeySet extends AbstractSet<String> {
+
+    private final JsonNode jsonNode;
+
+    KeySet(JsonNode jsonNode) {
+      this.jsonNode = jsonNode;
+    }
+
+    @Override
+    public int size() {
+      return this.jsonNode.size();
     }
+
+    @Override
+    public boolean isEmpty() {
+      return this.jsonNode.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof String s && this.jsonNode.get(s) != null;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+      // read-only, remove() is not overridden and throws UnsupportedOperationException
+      Iterator<Entry<String, JsonNode>> properties = this.jsonNode.properties().iterator();
+      return new Iterator<>() {
+
+        @Override
+        public boolean hasNext() {
+          return properties.hasNext();
+        }
+
+        @Override
+        public String next() {
+          return properties.next().getKey();
+        }
+
+      };
+    }
+
+  }
+
+  /**
+   * Read-only live view on the values of an object node, values are adapted
+   * as they are iterated.
+   */
+  static final class Values extends AbstractCollection<JsonValue> {
+
+    private final JsonNodeJsonObject jsonObject;
+
+    Values(JsonNodeJsonObject jsonObject) {
+      this.jsonObject = jsonObject;
+    }
+
+    @Override
+    public int size() {
+      return this.jsonObject.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.jsonObject.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return this.jsonObject.containsValue(o);
+    }
+
+    @Override
+    public Iterator<JsonValue> iterator() {
+      Iterator<Entry<String, JsonNode>> properties = this.jsonObject.jsonNode.properties().iterator();
+      return new Iterator<>() {
+
+        @Override
+        public boolean hasNext() {
+          return properties.hasNext();
+        }
+
+        @Override
+        public JsonValue next() {
+          Entry<String, JsonNode> property = properties.next();
+          return Values.this.jsonObject.adaptChild(property.getKey(), property.getValue());
+        }
+
+      };
+    }
+
+  }
+
+  /**
+   * Read-only live view on the properties of an object node, values are
+   * adapted as they are iterated.
+   */
+  static final class EntrySet extends AbstractSet<Entry<String, JsonValue>> {
+
+    private final JsonNodeJsonObject jsonObject;
+
+    EntrySet(JsonNodeJsonObject jsonObject) {
+      this.jsonObject = jsonObject;
+    }
+
+    @Override
+    public int size() {
+      return this.jsonObject.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.jsonObject.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof Entry<?, ?> entry)
+              || !(entry.getKey() instanceof String key)
+              || !(entry.getValue() instanceof JsonValue value)) {
+        return false;
+      }
+      JsonNode child = this.jsonObject.jsonNode.get(key);
+      return child != null && JsonNodeAdapter.valueEquals(child, value);
+    }
+
+    @Override
+    public Iterator<Entry<String, JsonValue>> iterator() {
+      Iterator<Entry<String, JsonNode>> properties = this.jsonObject.jsonNode.properties().iterator();
+      return new Iterator<>() {
+
+        @Override
+        public boolean hasNext() {
+          return properties.hasNext();
+        }
+
+        @Override
+        public Entry<String, JsonValue> next() {
+          Entry<String, JsonNode> property = properties.next();
+          String name = property.getKey();
+          return Map.entry(name, EntrySet.this.jsonObject.adaptChild(name, property.getValue()));
+        }
+
+      };
+    }
+
   }
 
 }
@@ -0,0 +1,382 @@
+package com.github.marschall.jsonnodereader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+
+/**
+ * A {@link JsonObjectBuilder} seeded from an existing object that does not
+ * copy it.
+ * <p>
+ * The object node of the initial object is kept as an untouched base layer,
+ * the builder only records the members that are added, replaced or removed.
+ * {@link #build()} returns a view on an {@link ObjectNode} that combines both
+ * layers, the base members are neither copied nor adapted. Replaced members
+ * keep their position, new members are appended.
+ * <p>
+ * The initial object must not be changed while the builder or a built object
+ * are in use. Built objects are read-only. Like other builders
+ * {@link #build()} resets the builder to an empty object.
+ */
+public final class JsonNodeJsonObjectBuilder implements JsonObjectBuilder {
+
+  /**
+   * The base layer, {@code null} if there is none.
+   */
+  private JsonNode base;
+
+  /**
+   * Replaced or removed members of the base layer, a {@code null} value marks
+   * a removed member, created on first use.
+   */
+  private Map<String, JsonNode> replaced;
+
+  /**
+   * Members that are not in the base layer, in insertion order.
+   */
+  private Map<String, JsonNode> added;
+
+  private int size;
+
+  /**
+   * Initializes a {@link JsonNodeJsonObjectBuilder}.
+   *
+   * @param jsonObject the initial object, not {@code null}, views created by
+   *                   {@link JsonNodeValues} are used as the base without
+   *                   being adapted
+   */
+  public JsonNodeJsonObjectBuilder(JsonObject jsonObject) {
+    Objects.requireNonNull(jsonObject, "jsonObject");
+    this.base = JsonValueAdapter.adapt(jsonObject);
+    this.size = this.base.size();
+    this.added = new LinkedHashMap<>();
+  }
+
+  private void put(String name, JsonNode value) {
+    Objects.requireNonNull(name, "name");
+    Map<String, JsonNode> localAdded = this.added;
+    if (localAdded.containsKey(name)) {
+      localAdded.put(name, value);
+      return;
+    }
+    if (this.isInBase(name)) {
+      this.replaced().put(name, value);
+    } else {
+      localAdded.put(name, value);
+      this.size += 1;
+    }
+  }
+
+  /**
+   * Whether a member of the base layer is visible, replaced or not.
+   */
+  private boolean isInBase(String name) {
+    if (this.base == null || this.base.get(name) == null) {
+      return false;
+    }
+    // removed members are added to the end again, like a LinkedHashMap
+    return this.replaced == null || !this.replaced.containsKey(name) || this.replaced.get(name) != null;
+  }
+
+  private Map<String, JsonNode> replaced() {
+    Map<String, JsonNode> localReplaced = this.replaced;
+    if (localReplaced == null) {
+      localReplaced = new HashMap<>();
+      this.replaced = localReplaced;
+    }
+    return localReplaced;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, JsonValue value) {
+    Objects.requireNonNull(value, "value");
+    this.put(name, JsonValueAdapter.adapt(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, String value) {
+    Objects.requireNonNull(value, "value");
+    this.put(name, TextNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, BigInteger value) {
+    Objects.requireNonNull(value, "value");
+    this.put(name, BigIntegerNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, BigDecimal value) {
+    Objects.requireNonNull(value, "value");
+    this.put(name, DecimalNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, int value) {
+    this.put(name, IntNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, long value) {
+    this.put(name, LongNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, double value) {
+    this.put(name, doubleNode(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, boolean value) {
+    this.put(name, BooleanNode.valueOf(value));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder addNull(String name) {
+    this.put(name, NullNode.getInstance());
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, JsonObjectBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.put(name, buildNode(builder));
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder add(String name, JsonArrayBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    this.put(name, JsonNodeJsonArrayBuilder.buildNode(builder));
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Other builders are built to get their members.
+   */
+  @Override
+  public JsonObjectBuilder addAll(JsonObjectBuilder builder) {
+    Objects.requireNonNull(builder, "builder");
+    if (builder instanceof JsonNodeJsonObjectBuilder other) {
+      for (Entry<String, JsonNode> member : other.members().entrySet()) {
+        this.put(member.getKey(), member.getValue());
+      }
+    } else {
+      for (Entry<String, JsonValue> member : builder.build().entrySet()) {
+        this.put(member.getKey(), JsonValueAdapter.adapt(member.getValue()));
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public JsonObjectBuilder remove(String name) {
+    Objects.requireNonNull(name, "name");
+    if (this.added.remove(name) != null) {
+      this.size -= 1;
+    } else if (this.isInBase(name)) {
+      this.replaced().put(name, null);
+      this.size -= 1;
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned object is a view that shares the base layer with the
+   * initial object.
+   */
+  @Override
+  public JsonObject build() {
+    return new JsonNodeJsonObject(this.buildObjectNode());
+  }
+
+  private ObjectNode buildObjectNode() {
+    ObjectNode objectNode = new ObjectNode(JsonNodeFactory.instance, this.members());
+    // hand the layers over to the built object
+    this.base = null;
+    this.replaced = null;
+    this.added = new LinkedHashMap<>();
+    this.size = 0;
+    return objectNode;
+  }
+
+  private Map<String, JsonNode> members() {
+    if (this.base == null) {
+      return this.added;
+    }
+    return new OverlayMap(this.base, this.replaced, this.added, this.size);
+  }
+
+  static JsonNode buildNode(JsonObjectBuilder builder) {
+    if (builder instanceof JsonNodeJsonObjectBuilder nodeBuilder) {
+      return nodeBuilder.buildObjectNode();
+    }
+    return JsonValueAdapter.adapt(builder.build());
+  }
+
+  static JsonNode doubleNode(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new NumberFormatException("not a valid JSON number: " + value);
+    }
+    return DoubleNode.valueOf(value);
+  }
+
+  /**
+   * Read-only map of the members of a base object with replaced, removed and
+   * added members on top.
+   */
+  static final class OverlayMap extends AbstractMap<String, JsonNode> {
+
+    private final JsonNode base;
+
+    private final Map<String, JsonNode> replaced;
+
+    private final Map<String, JsonNode> added;
+
+    private final int size;
+
+    OverlayMap(JsonNode base, Map<String, JsonNode> replaced, Map<String, JsonNode> added, int size) {
+      this.base = base;
+      this.replaced = replaced;
+      this.added = added;
+      this.size = size;
+    }
+
+    @Override
+    public int size() {
+      return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return this.get(key) != null;
+    }
+
+    @Override
+    public JsonNode get(Object key) {
+      if (!(key instanceof String name)) {
+        return null;
+      }
+      JsonNode value = this.added.get(name);
+      if (value != null) {
+        return value;
+      }
+      if (this.replaced != null && this.replaced.containsKey(name)) {
+        return this.replaced.get(name);
+      }
+      return this.base.get(name);
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+      return new OverlayEntrySet(this);
+    }
+
+  }
+
+  static final class OverlayEntrySet extends AbstractSet<Entry<String, JsonNode>> {
+
+    private final OverlayMap map;
+
+    OverlayEntrySet(OverlayMap map) {
+      this.map = map;
+    }
+
+    @Override
+    public int size() {
+      return this.map.size;
+    }
+
+    @Override
+    public Iterator<Entry<String, JsonNode>> iterator() {
+      Iterator<Entry<String, JsonNode>> baseMembers = this.map.base.properties().iterator();
+      Iterator<Entry<String, JsonNode>> addedMembers = this.map.added.entrySet().iterator();
+      Map<String, JsonNode> replaced = this.map.replaced;
+      return new Iterator<>() {
+
+        private Entry<String, JsonNode> next;
+
+        @Override
+        public boolean hasNext() {
+          if (this.next != null) {
+            return true;
+          }
+          while (baseMembers.hasNext()) {
+            Entry<String, JsonNode> member = baseMembers.next();
+            String name = member.getKey();
+            if (replaced == null || !replaced.containsKey(name)) {
+              this.next = member;
+              return true;
+            }
+            JsonNode value = replaced.get(name);
+            if (value != null) {
+              this.next = new AbstractMap.SimpleImmutableEntry<>(name, value);
+              return true;
+            }
+          }
+          if (addedMembers.hasNext()) {
+            this.next = addedMembers.next();
+            return true;
+          }
+          return false;
+        }
+
+        @Override
+        public Entry<String, JsonNode> next() {
+          if (!this.hasNext()) {
+            throw new NoSuchElementException();
+          }
+          Entry<String, JsonNode> member = this.next;
+          this.next = null;
+          return member;
+        }
+
+      };
+    }
+
+  }
+
+}
@@ -1,19 +1,24 @@
 package com.github.marschall.jsonnodereader;
 
 import java.math.BigDecimal;
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import com.github.marschall.jsonnodereader.JsonNodeJsonParser.JsonNodeIterator.ArrayJsonNodeIterator;
-import com.github.marschall.jsonnodereader.JsonNodeJsonParser.JsonNodeIterator.ObjectJsonNodeIterator;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.marschall.jsonnodereader.JsonNodeJsonArray.JsonValueSpliterator;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
@@ -23,8 +28,12 @@ import jakarta.json.stream.JsonParser;
 
 /**
  * A Jakarta {@link JsonParser} that works on a Jackson {@link JsonNode}.
+ * <p>
+ * Numbers can be read as primitives through {@link PrimitiveJsonParser}.
+ * If reading an array into a primitive array fails the parser stays at
+ * {@link Event#START_ARRAY} and the array can still be read event by event.
  */
-public final class JsonNodeJsonParser implements JsonParser {
+public final class JsonNodeJsonParser implements PrimitiveJsonParser {
   // implementation similar to org.eclipse.parsson.JsonStructureParser
 
   private static final Map<JsonNodeType, Event> TYPE_TO_EVENT_MAP;
@@ -51,9 +60,24 @@ public final class JsonNodeJsonParser implements JsonParser {
     }
   }
 
-  private JsonNodeIterator currentNode;
+  private static final int INITIAL_DEPTH = 8;
+
+  // the cursor stack, one entry per open container
+  // parallel arrays instead of an iterator object per container to avoid allocation
+  private JsonNode[] containers;
+  // index of the current element, for arrays only
+  private int[] positions;
+  // current property, for objects only
+  private Iterator<Entry<String, JsonNode>>[] properties;
+  // index of the innermost open container, -1 if none
+  private int depth;
+
+  private JsonNode root;
+  private String key;
+  private JsonNode value;
   private Event currentState;
-  private final Deque<JsonNodeIterator> nodeStack;
+  private final JsonNodeJsonParserPool pool;
+  private boolean released;
 
   /**
    * Initializes a {@link JsonNodeJsonParser}.
@@ -61,15 +85,73 @@ public final class JsonNodeJsonParser implements JsonParser {
    * @param root the root node, must be an array or object, not {@code null}
    */
   public JsonNodeJsonParser(JsonNode root) {
+    this((JsonNodeJsonParserPool) null);
+    this.reset(root);
+  }
+
+  JsonNodeJsonParser(JsonNodeJsonParserPool pool) {
+    this.containers = new JsonNode[INITIAL_DEPTH];
+    this.positions = new int[INITIAL_DEPTH];
+    this.properties = newPropertiesArray(INITIAL_DEPTH);
+    this.depth = -1;
+    this.pool = pool;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Iterator<Entry<String, JsonNode>>[] newPropertiesArray(int length) {
+    return new Iterator[length];
+  }
+
+  /**
+   * Resets this parser to the start of a new document.
+   * <p>
+   * This allows to reuse a parser for several documents. The next call to
+   * {@link #next()} will return the start event of {@code root}.
+   * 
+   * @param root the root node, must be an array or object, not {@code null}
+   * @throws IllegalStateException if this parser was obtained from a
+   *                               {@link JsonNodeJsonParserPool} and has
+   *                               been closed
+   */
+  public void reset(JsonNode root) {
+    if (this.released) {
+      throw new IllegalStateException("parser was returned to its pool");
+    }
+    this.start(root);
+  }
+
+  /**
+   * Hands out this parser from its pool.
+   */
+  void acquire(JsonNode root) {
+    this.start(root);
+    this.released = false;
+  }
+
+  private void start(JsonNode root) {
     Objects.requireNonNull(root, "root");
-    this.currentNode = JsonNodeIterator.adapt(root);
-    this.nodeStack = new ArrayDeque<>();
+    if (!root.isContainerNode()) {
+      throw new IllegalArgumentException("unsupported node type");
+    }
+    this.clear();
+    this.root = root;
+  }
+
+  private void clear() {
+    // don't retain the previous document
+    Arrays.fill(this.containers, 0, this.depth + 1, null);
+    Arrays.fill(this.properties, 0, this.depth + 1, null);
+    this.depth = -1;
+    this.root = null;
+    this.key = null;
+    this.value = null;
+    this.currentState = null;
   }
 
   @Override
   public boolean hasNext() {
     if (this.currentState == Event.END_OBJECT || this.currentState == Event.END_ARRAY) {
-      return !this.nodeStack.isEmpty();
+      return this.depth > 0;
     }
     return true;
   }
@@ -85,31 +167,81 @@ public final class JsonNodeJsonParser implements JsonParser {
 
   private void advance() {
     if (this.currentState == null) {
-      this.currentState = this.currentNode.startEvent();
+      this.value = this.root;
+      this.currentState = getState(this.root);
+      this.push(this.root);
     } else {
       if (this.currentState == Event.END_OBJECT || this.currentState == Event.END_ARRAY) {
-        this.currentNode = this.nodeStack.pop();
+        this.pop();
       }
-      this.currentState = this.currentNode.nextState(this.currentState);
+      this.currentState = this.nextState();
       this.pushNodeIfStart();
     }
   }
 
+  private Event nextState() {
+    int currentDepth = this.depth;
+    Iterator<Entry<String, JsonNode>> iterator = this.properties[currentDepth];
+    if (iterator == null) {
+      JsonNode array = this.containers[currentDepth];
+      int position = this.positions[currentDepth] + 1;
+      this.positions[currentDepth] = position;
+      if (position < array.size()) {
+        this.value = array.get(position);
+        return getState(this.value);
+      } else {
+        return Event.END_ARRAY;
+      }
+    } else if (this.currentState == Event.KEY_NAME) {
+      return getState(this.value);
+    } else if (iterator.hasNext()) {
+      Entry<String, JsonNode> property = iterator.next();
+      this.key = property.getKey();
+      this.value = property.getValue();
+      return Event.KEY_NAME;
+    } else {
+      return Event.END_OBJECT;
+    }
+  }
+
   private void pushNodeIfStart() {
-    if (this.currentState == Event.START_ARRAY) {
-      this.nodeStack.push(this.currentNode);
-      this.currentNode = new ArrayJsonNodeIterator(this.currentNode.getJsonNode());
-    } else if (this.currentState == Event.START_OBJECT) {
-      this.nodeStack.push(this.currentNode);
-      this.currentNode = new ObjectJsonNodeIterator(this.currentNode.getJsonNode());
+    if (this.currentState == Event.START_ARRAY || this.currentState == Event.START_OBJECT) {
+      this.push(this.value);
     }
   }
 
+  private void push(JsonNode container) {
+    int newDepth = this.depth + 1;
+    if (newDepth == this.containers.length) {
+      this.grow();
+    }
+    this.containers[newDepth] = container;
+    if (container.isArray()) {
+      this.positions[newDepth] = -1;
+    } else {
+      this.properties[newDepth] = container.properties().iterator();
+    }
+    this.depth = newDepth;
+  }
+
+  private void pop() {
+    this.containers[this.depth] = null;
+    this.properties[this.depth] = null;
+    this.depth -= 1;
+  }
+
+  private void grow() {
+    int newLength = this.containers.length * 2;
+    this.containers = Arrays.copyOf(this.containers, newLength);
+    this.positions = Arrays.copyOf(this.positions, newLength);
+    this.properties = Arrays.copyOf(this.properties, newLength);
+  }
+
   @Override
   public String getString() {
     return switch (this.currentState) {
-      case KEY_NAME -> ((ObjectJsonNodeIterator) this.currentNode).getKey();
-      case VALUE_STRING, VALUE_NUMBER -> this.currentNode.getJsonNode().asText();
+      case KEY_NAME -> this.key;
+      case VALUE_STRING, VALUE_NUMBER -> this.value.asText();
       default -> throw new IllegalStateException("getString() not supported in current state");
     };
   }
@@ -119,7 +251,7 @@ public final class JsonNodeJsonParser implements JsonParser {
     if (this.currentState != Event.VALUE_NUMBER) {
       throw new IllegalStateException("current state is not a number");
     }
-    return this.currentNode.getJsonNode().isIntegralNumber();
+    return this.value.isIntegralNumber();
   }
 
   @Override
@@ -127,7 +259,7 @@ public final class JsonNodeJsonParser implements JsonParser {
     if (this.currentState != Event.VALUE_NUMBER) {
       throw new IllegalStateException("current state is not a number");
     }
-    return this.currentNode.getJsonNode().intValue();
+    return this.value.intValue();
   }
 
   @Override
@@ -135,7 +267,7 @@ public final class JsonNodeJsonParser implements JsonParser {
     if (this.currentState != Event.VALUE_NUMBER) {
       throw new IllegalStateException("current state is not a number");
     }
-    return this.currentNode.getJsonNode().longValue();
+    return this.value.longValue();
   }
 
   @Override
@@ -143,7 +275,31 @@ public final class JsonNodeJsonParser implements JsonParser {
     if (this.currentState != Event.VALUE_NUMBER) {
       throw new IllegalStateException("current state is not a number");
     }
-    return this.currentNode.getJsonNode().decimalValue();
+    return this.value.decimalValue();
+  }
+
+  @Override
+  public double getDouble() {
+    if (this.currentState != Event.VALUE_NUMBER) {
+      throw new IllegalStateException("current state is not a number");
+    }
+    return this.value.doubleValue();
+  }
+
+  @Override
+  public float getFloat() {
+    if (this.currentState != Event.VALUE_NUMBER) {
+      throw new IllegalStateException("current state is not a number");
+    }
+    return this.value.floatValue();
+  }
+
+  @Override
+  public NumberType getNumberKind() {
+    if (this.currentState != Event.VALUE_NUMBER) {
+      throw new IllegalStateException("current state is not a number");
+    }
+    return this.value.numberType();
   }
 
   @Override
@@ -161,7 +317,7 @@ public final class JsonNodeJsonParser implements JsonParser {
     if (this.currentState != Event.START_OBJECT) {
       throw new IllegalStateException("not in start object");
     }
-    JsonNode node = this.currentNode.getContainerNode();
+    JsonNode node = this.containers[this.depth];
     JsonObject object;
     if (node.isEmpty()) {
       object = JsonValue.EMPTY_JSON_OBJECT;
@@ -179,8 +335,9 @@ public final class JsonNodeJsonParser implements JsonParser {
       case END_OBJECT, END_ARRAY -> throw new IllegalStateException("in state end");
       case START_ARRAY -> this.getArray();
       case START_OBJECT -> this.getObject();
-      case KEY_NAME, VALUE_STRING -> new JsonNodeJsonString(this.currentNode.getJsonNode());
-      case VALUE_NUMBER -> new JsonNodeJsonNumber(this.currentNode.getJsonNode());
+      case KEY_NAME -> new JsonNodeJsonString(TextNode.valueOf(this.key));
+      case VALUE_STRING -> new JsonNodeJsonString(this.value);
+      case VALUE_NUMBER -> new JsonNodeJsonNumber(this.value);
       case VALUE_TRUE -> JsonValue.TRUE;
       case VALUE_FALSE -> JsonValue.FALSE;
       case VALUE_NULL -> JsonValue.NULL;
@@ -192,7 +349,7 @@ public final class JsonNodeJsonParser implements JsonParser {
     if (this.currentState != Event.START_ARRAY) {
       throw new IllegalStateException("not in start array");
     }
-    JsonNode node = this.currentNode.getContainerNode();
+    JsonNode node = this.containers[this.depth];
     JsonArray array;
     if (node.isEmpty()) {
       array = JsonValue.EMPTY_JSON_ARRAY;
@@ -206,7 +363,7 @@ public final class JsonNodeJsonParser implements JsonParser {
 
   @Override
   public void skipArray() {
-    if (this.currentNode instanceof ArrayJsonNodeIterator) {
+    if (this.depth >= 0 && this.properties[this.depth] == null) {
       this.currentState = Event.END_ARRAY;
       // #transition() will pop the stack 
     }
@@ -214,122 +371,268 @@ public final class JsonNodeJsonParser implements JsonParser {
 
   @Override
   public void skipObject() {
-    if (this.currentNode instanceof ObjectJsonNodeIterator) {
+    if (this.depth >= 0 && this.properties[this.depth] != null) {
       this.currentState = Event.END_OBJECT;
       // #transition() will pop the stack 
     }
   }
 
   @Override
-  public void close() {
-    // no-op for now
+  public Stream<JsonValue> getArrayStream() {
+    if (this.currentState != Event.START_ARRAY) {
+      throw new IllegalStateException("not in start array");
+    }
+    return StreamSupport.stream(new ArraySpliterator(), false);
   }
 
-  sealed interface JsonNodeIterator {
+  /**
+   * Returns a parallel stream of the array elements.
+   * <p>
+   * Unlike {@link #getArrayStream()} the elements are not consumed through
+   * this parser but split across threads. Therefore the parser is advanced
+   * to {@link Event#END_ARRAY} immediately. The parser state must be
+   * {@link Event#START_ARRAY}.
+   * 
+   * @return a parallel stream of the array elements
+   * @throws IllegalStateException if the parser state is not {@link Event#START_ARRAY}
+   */
+  public Stream<JsonValue> getParallelArrayStream() {
+    JsonNode array = this.consumeArray();
+    return StreamSupport.stream(new JsonValueSpliterator(new JsonNodeJsonArray(array), 0, array.size()), true);
+  }
 
-    static JsonNodeIterator adapt(JsonNode jsonNode) {
-      if (jsonNode.isObject()) {
-        return new ObjectJsonNodeIterator(jsonNode);
-      } else if (jsonNode.isArray()) {
-        return new ArrayJsonNodeIterator(jsonNode);
-      } else {
-        throw new IllegalArgumentException("unsupported node type");
-      }
-    }
+  @Override
+  public int[] getIntArray(NumberConversion conversion) {
+    int[] result = PrimitiveArrays.getIntArray(this.startedArray(), conversion);
+    this.consumeArray();
+    return result;
+  }
 
-    Event nextState(Event currentState);
+  @Override
+  public int getIntArray(NumberConversion conversion, int[] destination, int offset) {
+    int read = PrimitiveArrays.getIntArray(this.startedArray(), conversion, destination, offset);
+    this.consumeArray();
+    return read;
+  }
 
-    JsonNode getJsonNode();
+  @Override
+  public long[] getLongArray(NumberConversion conversion) {
+    long[] result = PrimitiveArrays.getLongArray(this.startedArray(), conversion);
+    this.consumeArray();
+    return result;
+  }
 
-    JsonNode getContainerNode();
+  @Override
+  public int getLongArray(NumberConversion conversion, long[] destination, int offset) {
+    int read = PrimitiveArrays.getLongArray(this.startedArray(), conversion, destination, offset);
+    this.consumeArray();
+    return read;
+  }
 
-    Event startEvent();
+  @Override
+  public double[] getDoubleArray(NumberConversion conversion) {
+    double[] result = PrimitiveArrays.getDoubleArray(this.startedArray(), conversion);
+    this.consumeArray();
+    return result;
+  }
 
-    static final class ObjectJsonNodeIterator implements JsonNodeIterator {
+  @Override
+  public int getDoubleArray(NumberConversion conversion, double[] destination, int offset) {
+    int read = PrimitiveArrays.getDoubleArray(this.startedArray(), conversion, destination, offset);
+    this.consumeArray();
+    return read;
+  }
 
-      private final Iterator<Entry<String, JsonNode>> iterator;
-      private JsonNode value;
-      private String key;
-      private JsonNode object;
+  /**
+   * Returns the array the parser is at without advancing the parser.
+   */
+  private JsonNode startedArray() {
+    if (this.currentState != Event.START_ARRAY) {
+      throw new IllegalStateException("not in start array");
+    }
+    return this.containers[this.depth];
+  }
 
-      ObjectJsonNodeIterator(JsonNode object) {
-        this.object = object;
-        this.iterator = object.fields();
-      }
+  /**
+   * Advances the parser from {@link Event#START_ARRAY} to {@link Event#END_ARRAY}
+   * without visiting the elements.
+   */
+  private JsonNode consumeArray() {
+    JsonNode array = this.startedArray();
+    this.positions[this.depth] = array.size() - 1;
+    // #transition() will pop the stack 
+    this.currentState = Event.END_ARRAY;
+    return array;
+  }
 
-      @Override
-      public Event startEvent() {
-        return Event.START_OBJECT;
-      }
+  @Override
+  public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+    if (this.currentState != Event.START_OBJECT) {
+      throw new IllegalStateException("not in start object");
+    }
+    return StreamSupport.stream(new ObjectSpliterator(), false);
+  }
 
-      String getKey() {
-        return this.key;
-      }
+  @Override
+  public Stream<JsonValue> getValueStream() {
+    if (this.currentState != null && !this.isFinished()) {
+      throw new IllegalStateException("in array or object");
+    }
+    return StreamSupport.stream(new ValueSpliterator(), false);
+  }
 
-      @Override
-      public Event nextState(Event currentState) {
-        if (currentState == Event.KEY_NAME) {
-          return getState(this.value);
-        } else  if (this.iterator.hasNext()) {
-          Map.Entry<String, JsonNode> next = this.iterator.next();
-          this.key = next.getKey();
-          this.value = next.getValue();
-          return Event.KEY_NAME;
-        } else {
-          return Event.END_OBJECT;
-        }
-      }
+  private boolean isFinished() {
+    return this.depth == 0 && (this.currentState == Event.END_OBJECT || this.currentState == Event.END_ARRAY);
+  }
 
-      @Override
-      public JsonNode getJsonNode() {
-        return this.value;
-      }
+  /**
+   * Moves to the next element of the array at {@code arrayDepth} without
+   * going through {@link #next()}.
+   * <p>
+   * A container element is pushed and immediately ended, as if
+   * {@link #getArray()} or {@link #getObject()} had been called on it, so
+   * that the parser is positioned correctly if the caller mixes stream and
+   * event access.
+   * 
+   * @return the next element or {@code null} if the array is exhausted
+   */
+  private JsonNode nextElement(int arrayDepth) {
+    if (this.depth < arrayDepth || (this.depth == arrayDepth && this.currentState == Event.END_ARRAY)) {
+      return null;
+    }
+    if (this.depth > arrayDepth) {
+      // previous element was a container
+      this.pop();
+    }
+    JsonNode array = this.containers[arrayDepth];
+    int position = this.positions[arrayDepth] + 1;
+    this.positions[arrayDepth] = position;
+    if (position < array.size()) {
+      this.value = array.get(position);
+      this.currentState = getState(this.value);
+      this.endNodeIfStart();
+      return this.value;
+    } else {
+      this.currentState = Event.END_ARRAY;
+      return null;
+    }
+  }
 
-      @Override
-      public JsonNode getContainerNode() {
-        return this.object;
-      }
+  /**
+   * Moves to the next property of the object at {@code objectDepth} without
+   * going through {@link #next()}.
+   * 
+   * @return the next property value or {@code null} if the object is exhausted,
+   *         the property key is available in {@link #key}
+   */
+  private JsonNode nextProperty(int objectDepth) {
+    if (this.depth < objectDepth || (this.depth == objectDepth && this.currentState == Event.END_OBJECT)) {
+      return null;
+    }
+    if (this.depth > objectDepth) {
+      // previous property value was a container
+      this.pop();
+    }
+    Iterator<Entry<String, JsonNode>> iterator = this.properties[objectDepth];
+    if (iterator.hasNext()) {
+      Entry<String, JsonNode> property = iterator.next();
+      this.key = property.getKey();
+      this.value = property.getValue();
+      this.currentState = getState(this.value);
+      this.endNodeIfStart();
+      return this.value;
+    } else {
+      this.currentState = Event.END_OBJECT;
+      return null;
+    }
+  }
 
+  private void endNodeIfStart() {
+    if (this.currentState == Event.START_ARRAY) {
+      this.push(this.value);
+      this.currentState = Event.END_ARRAY;
+    } else if (this.currentState == Event.START_OBJECT) {
+      this.push(this.value);
+      this.currentState = Event.END_OBJECT;
     }
+  }
 
-    static final class ArrayJsonNodeIterator implements JsonNodeIterator {
+  final class ArraySpliterator extends AbstractSpliterator<JsonValue> {
 
-      private final Iterator<JsonNode> nodeIterator;
-      private JsonNode value;
-      private JsonNode array;
+    private final int arrayDepth;
 
-      ArrayJsonNodeIterator(JsonNode array) {
-        this.array = array;
-        this.nodeIterator = array.elements();
-      }
+    ArraySpliterator() {
+      super(containers[depth].size(), Spliterator.ORDERED | Spliterator.NONNULL);
+      this.arrayDepth = depth;
+    }
 
-      @Override
-      public Event startEvent() {
-        return Event.START_ARRAY;
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonValue> action) {
+      JsonNode element = nextElement(this.arrayDepth);
+      if (element == null) {
+        return false;
       }
+      action.accept(JsonNodeAdapter.adapt(element));
+      return true;
+    }
 
-      @Override
-      public Event nextState(Event currentState) {
-        if (this.nodeIterator.hasNext()) {
-          this.value = this.nodeIterator.next();
-          return getState(this.value);
-        } else {
-          return Event.END_ARRAY;
-        }
-      }
+  }
 
-      @Override
-      public JsonNode getJsonNode() {
-        return this.value;
-      }
+  final class ObjectSpliterator extends AbstractSpliterator<Map.Entry<String, JsonValue>> {
 
-      @Override
-      public JsonNode getContainerNode() {
-        return this.array;
+    private final int objectDepth;
+
+    ObjectSpliterator() {
+      super(containers[depth].size(), Spliterator.ORDERED | Spliterator.NONNULL);
+      this.objectDepth = depth;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map.Entry<String, JsonValue>> action) {
+      JsonNode propertyValue = nextProperty(this.objectDepth);
+      if (propertyValue == null) {
+        return false;
       }
+      action.accept(Map.entry(key, JsonNodeAdapter.adapt(propertyValue)));
+      return true;
+    }
 
+  }
+
+  final class ValueSpliterator extends AbstractSpliterator<JsonValue> {
+
+    ValueSpliterator() {
+      super(1L, Spliterator.ORDERED | Spliterator.NONNULL);
     }
 
+    @Override
+    public boolean tryAdvance(Consumer<? super JsonValue> action) {
+      if (currentState != null) {
+        return false;
+      }
+      value = root;
+      currentState = getState(root);
+      endNodeIfStart();
+      action.accept(JsonNodeAdapter.adapt(root));
+      return true;
+    }
+
+  }
+
+  /**
+   * Closes this parser.
+   * <p>
+   * If this parser was obtained from a {@link JsonNodeJsonParserPool} it
+   * is returned to the pool and must no longer be used.
+   */
+  @Override
+  public void close() {
+    if (this.pool != null && !this.released) {
+      // don't retain the document while pooled
+      this.clear();
+      this.released = true;
+      this.pool.release(this);
+    }
   }
 
   static final class LocationUnkown implements JsonLocation {
@@ -0,0 +1,105 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+/**
+ * A {@link JsonParserFactory} that creates {@link JsonNodeJsonParser}s for
+ * Jackson {@link JsonNode}s.
+ * <p>
+ * {@link #createParser(JsonObject)} and {@link #createParser(JsonArray)}
+ * recognize views created by {@link JsonNodeValues} and parse the backing
+ * node directly. All other input is handled by the delegate factory.
+ */
+public final class JsonNodeJsonParserFactory implements JsonParserFactory {
+
+  private final JsonParserFactory delegate;
+
+  /**
+   * Initializes a {@link JsonNodeJsonParserFactory}.
+   * 
+   * @param delegate the factory to use for input other than Jackson nodes,
+   *                 not {@code null}
+   */
+  public JsonNodeJsonParserFactory(JsonParserFactory delegate) {
+    Objects.requireNonNull(delegate, "delegate");
+    this.delegate = delegate;
+  }
+
+  /**
+   * Creates a parser for a Jackson node.
+   * 
+   * @param root the root node, must be an array or object, not {@code null}
+   * @return the parser for {@code root}
+   */
+  public JsonNodeJsonParser createParser(JsonNode root) {
+    return new JsonNodeJsonParser(root);
+  }
+
+  /**
+   * Creates a parser for the parts of a Jackson node selected by a filter.
+   * <p>
+   * The parser emits only the events of the matching subtrees and the
+   * objects and arrays enclosing them.
+   * 
+   * @param root the root node, must be an array or object, not {@code null}
+   * @param filter the filter selecting the subtrees, not {@code null}
+   * @return the parser for the projection of {@code root}
+   * @see JsonNodeFilter#apply(JsonNode)
+   */
+  public JsonNodeJsonParser createParser(JsonNode root, JsonNodeFilter filter) {
+    Objects.requireNonNull(filter, "filter");
+    Objects.requireNonNull(root, "root");
+    if (!root.isContainerNode()) {
+      throw new IllegalArgumentException("unsupported node type");
+    }
+    return new JsonNodeJsonParser(filter.apply(root));
+  }
+
+  @Override
+  public JsonParser createParser(Reader reader) {
+    return this.delegate.createParser(reader);
+  }
+
+  @Override
+  public JsonParser createParser(InputStream in) {
+    return this.delegate.createParser(in);
+  }
+
+  @Override
+  public JsonParser createParser(InputStream in, Charset charset) {
+    return this.delegate.createParser(in, charset);
+  }
+
+  @Override
+  public JsonParser createParser(JsonObject obj) {
+    if (obj instanceof JsonNodeValue value) {
+      return new JsonNodeJsonParser(value.getJsonNode());
+    }
+    return this.delegate.createParser(obj);
+  }
+
+  @Override
+  public JsonParser createParser(JsonArray array) {
+    if (array instanceof JsonNodeValue value) {
+      return new JsonNodeJsonParser(value.getJsonNode());
+    }
+    return this.delegate.createParser(array);
+  }
+
+  @Override
+  public Map<String, ?> getConfigInUse() {
+    return this.delegate.getConfigInUse();
+  }
+
+}
@@ -0,0 +1,79 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A pool of {@link JsonNodeJsonParser} instances.
+ * <p>
+ * Reusing parsers avoids allocating their internal state for every
+ * document which matters when parsing many small documents.
+ * <p>
+ * Instances of this class are not thread-safe and must be confined to a
+ * single thread, for example by holding them in a {@link ThreadLocal}.
+ * 
+ * <pre><code>
+ * try (JsonParser parser = pool.createParser(jsonNode)) {
+ *   // parser is returned to the pool by #close()
+ * }
+ * </code></pre>
+ */
+public final class JsonNodeJsonParserPool {
+
+  private static final int DEFAULT_CAPACITY = 4;
+
+  private final JsonNodeJsonParser[] parsers;
+  private int size;
+
+  /**
+   * Initializes a {@link JsonNodeJsonParserPool} with a default capacity.
+   */
+  public JsonNodeJsonParserPool() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Initializes a {@link JsonNodeJsonParserPool}.
+   * 
+   * @param capacity the maximum number of idle parsers retained by this pool,
+   *                 not negative
+   */
+  public JsonNodeJsonParserPool(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative");
+    }
+    this.parsers = new JsonNodeJsonParser[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * Returns a parser for a node, reusing an idle parser if possible.
+   * <p>
+   * The parser is returned to this pool when it is closed.
+   * 
+   * @param root the root node, must be an array or object, not {@code null}
+   * @return a parser positioned before the start of {@code root}
+   */
+  public JsonNodeJsonParser createParser(JsonNode root) {
+    Objects.requireNonNull(root, "root");
+    JsonNodeJsonParser parser;
+    if (this.size > 0) {
+      this.size -= 1;
+      parser = this.parsers[this.size];
+      this.parsers[this.size] = null;
+    } else {
+      parser = new JsonNodeJsonParser(this);
+    }
+    parser.acquire(root);
+    return parser;
+  }
+
+  void release(JsonNodeJsonParser parser) {
+    if (this.size < this.parsers.length) {
+      this.parsers[this.size] = parser;
+      this.size += 1;
+    }
+  }
+
+}
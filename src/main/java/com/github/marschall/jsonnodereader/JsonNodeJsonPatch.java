@@ -0,0 +1,218 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+
+/**
+ * A <a href="https://tools.ietf.org/html/rfc6902">JSON Patch</a> that is
+ * applied to Jackson trees.
+ * <p>
+ * The result of applying a patch is a new tree that shares every unchanged
+ * subtree with the target, only the objects and arrays on the path to a
+ * modified location are copied. Values of the patch are copied when they
+ * are inserted so that results never share nodes with the patch. Patching a
+ * single member costs proportionally to the depth of the member, the size of
+ * its ancestors and the size of the value, not the size of the document.
+ * Callers that own a node can modify it with {@link #applyInPlace(JsonNode)}
+ * instead.
+ * <p>
+ * The patch is parsed once, instances are immutable and thread-safe.
+ */
+public final class JsonNodeJsonPatch implements JsonPatch {
+
+  private final JsonArray jsonArray;
+
+  private final List<Operation> operations;
+
+  /**
+   * Initializes a {@link JsonNodeJsonPatch}.
+   *
+   * @param jsonArray the JSON Patch operations, not {@code null}
+   * @throws JsonException if {@code jsonArray} is not a valid JSON Patch
+   */
+  public JsonNodeJsonPatch(JsonArray jsonArray) {
+    Objects.requireNonNull(jsonArray, "jsonArray");
+    this.jsonArray = jsonArray;
+    this.operations = parse(jsonArray);
+  }
+
+  private static List<Operation> parse(JsonArray jsonArray) {
+    List<Operation> operations = new ArrayList<>(jsonArray.size());
+    for (JsonValue element : jsonArray) {
+      if (element.getValueType() != ValueType.OBJECT) {
+        throw new JsonException("JSON Patch operation must be an object but was: " + element.getValueType());
+      }
+      JsonObject operation = element.asJsonObject();
+      Op op = Op.fromString(getMember(operation, "op"));
+      JsonPointer path = compilePointer(getMember(operation, "path"));
+      JsonPointer from = null;
+      JsonNode value = null;
+      switch (op) {
+        case ADD, REPLACE, TEST -> value = getValue(operation);
+        case MOVE, COPY -> from = compilePointer(getMember(operation, "from"));
+        case REMOVE -> {
+          // only path
+        }
+      }
+      operations.add(new Operation(op, path, from, value));
+    }
+    return List.copyOf(operations);
+  }
+
+  private static String getMember(JsonObject operation, String name) {
+    JsonValue member = operation.get(name);
+    if (member == null || member.getValueType() != ValueType.STRING) {
+      throw new JsonException("JSON Patch operation requires a string member: " + name);
+    }
+    return ((JsonString) member).getString();
+  }
+
+  private static JsonNode getValue(JsonObject operation) {
+    JsonValue value = operation.get("value");
+    if (value == null) {
+      throw new JsonException("JSON Patch operation requires a member: value");
+    }
+    // detach from the patch, the node is inserted into results
+    return JsonValueAdapter.adapt(value).deepCopy();
+  }
+
+  private static JsonPointer compilePointer(String jsonPointer) {
+    return JsonNodeJsonPointer.compile(jsonPointer).getJacksonPointer();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The result is a view on a new tree that shares unchanged subtrees with
+   * {@code target}.
+   */
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T extends JsonStructure> T apply(T target) {
+    Objects.requireNonNull(target, "target");
+    JsonNode result = this.apply(JsonValueAdapter.adapt(target), new JsonNodePatcher(false));
+    return (T) JsonNodeAdapter.adapt(result);
+  }
+
+  /**
+   * Applies this patch without modifying the target.
+   *
+   * @param target the node to patch, not {@code null}
+   * @return a new tree that shares unchanged subtrees with {@code target}
+   * @throws JsonException if a location does not exist or a test fails
+   */
+  public JsonNode apply(JsonNode target) {
+    Objects.requireNonNull(target, "target");
+    return this.apply(target, new JsonNodePatcher(false));
+  }
+
+  /**
+   * Applies this patch by modifying the target.
+   * <p>
+   * If the patch fails the target may have been partially modified.
+   *
+   * @param target the node to patch, not {@code null}, must be modifiable
+   * @return the patched node, {@code target} unless the root is replaced
+   * @throws JsonException if a location does not exist or a test fails
+   */
+  public JsonNode applyInPlace(JsonNode target) {
+    Objects.requireNonNull(target, "target");
+    return this.apply(target, new JsonNodePatcher(true));
+  }
+
+  private JsonNode apply(JsonNode target, JsonNodePatcher patcher) {
+    JsonNode current = target;
+    for (Operation operation : this.operations) {
+      current = operation.apply(current, patcher);
+    }
+    return current;
+  }
+
+  @Override
+  public JsonArray toJsonArray() {
+    return this.jsonArray;
+  }
+
+  @Override
+  public String toString() {
+    return this.jsonArray.toString();
+  }
+
+  enum Op {
+
+    ADD, REMOVE, REPLACE, MOVE, COPY, TEST;
+
+    static Op fromString(String op) {
+      return switch (op) {
+        case "add" -> ADD;
+        case "remove" -> REMOVE;
+        case "replace" -> REPLACE;
+        case "move" -> MOVE;
+        case "copy" -> COPY;
+        case "test" -> TEST;
+        default -> throw new JsonException("unknown JSON Patch operation: " + op);
+      };
+    }
+
+  }
+
+  record Operation(Op op, JsonPointer path, JsonPointer from, JsonNode value) {
+
+    JsonNode apply(JsonNode root, JsonNodePatcher patcher) {
+      return switch (this.op) {
+        case ADD -> patcher.add(root, this.path, this.copyValue());
+        case REMOVE -> patcher.remove(root, this.path);
+        case REPLACE -> patcher.replace(root, this.path, this.copyValue());
+        case MOVE -> {
+          if (this.from.equals(this.path)) {
+            patcher.get(root, this.from);
+            yield root;
+          }
+          if (this.path.toString().startsWith(this.from.toString() + "/")) {
+            throw new JsonException("can not move a value into itself: " + this.from + " to " + this.path);
+          }
+          JsonNode value = patcher.get(root, this.from);
+          yield patcher.add(patcher.remove(root, this.from), this.path, value);
+        }
+        case COPY -> {
+          JsonNode value = patcher.get(root, this.from);
+          if (patcher.isInPlace()) {
+            // in place the copy must not alias the source
+            yield patcher.add(root, this.path, value.deepCopy());
+          }
+          // the value may contain containers copied by earlier operations,
+          // they must not be modified directly once shared by two locations
+          patcher.disown();
+          yield patcher.add(root, this.path, value);
+        }
+        case TEST -> {
+          if (!JsonNodeAdapter.nodeEquals(patcher.get(root, this.path), this.value)) {
+            throw new JsonException("JSON Patch test failed at: " + this.path);
+          }
+          yield root;
+        }
+      };
+    }
+
+    private JsonNode copyValue() {
+      // results must not share containers with the patch, deepCopy() returns
+      // scalar nodes as is which is safe because they are immutable
+      return this.value.deepCopy();
+    }
+
+  }
+
+}
@@ -0,0 +1,170 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+/**
+ * A compiled {@link JsonPointer} that navigates Jackson trees directly.
+ * <p>
+ * The pointer is parsed only once into a Jackson
+ * {@link com.fasterxml.jackson.core.JsonPointer}. When the target is a view
+ * created by {@link JsonNodeValues} it is resolved with
+ * {@link JsonNode#at(com.fasterxml.jackson.core.JsonPointer)} and only the
+ * view on the referenced value is created. Other targets and the modifying
+ * operations are delegated to a pointer of another provider.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class JsonNodeJsonPointer implements JsonPointer {
+
+  private static final int CACHE_SIZE = 1024;
+
+  private static final LRUMap<String, JsonNodeJsonPointer> CACHE = new LRUMap<>(16, CACHE_SIZE);
+
+  private final String jsonPointer;
+
+  private final com.fasterxml.jackson.core.JsonPointer compiled;
+
+  /**
+   * The provider for the delegate, {@code null} for the default provider.
+   */
+  private final JsonProvider provider;
+
+  /**
+   * Created on first use, benign race.
+   */
+  private JsonPointer delegate;
+
+  JsonNodeJsonPointer(String jsonPointer, JsonProvider provider) {
+    Objects.requireNonNull(jsonPointer, "jsonPointer");
+    this.jsonPointer = jsonPointer;
+    this.compiled = compileJackson(jsonPointer);
+    this.provider = provider;
+  }
+
+  /**
+   * Returns the compiled form of a JSON Pointer.
+   * <p>
+   * Compiled pointers are kept in a bounded cache, compiling the same pointer
+   * again usually returns the same instance.
+   *
+   * @param jsonPointer the JSON Pointer string, not {@code null}
+   * @return the compiled pointer
+   * @throws JsonException if {@code jsonPointer} is not a valid JSON Pointer
+   */
+  public static JsonNodeJsonPointer compile(String jsonPointer) {
+    Objects.requireNonNull(jsonPointer, "jsonPointer");
+    return compile(jsonPointer, CACHE, null);
+  }
+
+  static JsonNodeJsonPointer compile(String jsonPointer, LRUMap<String, JsonNodeJsonPointer> cache, JsonProvider provider) {
+    JsonNodeJsonPointer pointer = cache.get(jsonPointer);
+    if (pointer == null) {
+      pointer = new JsonNodeJsonPointer(jsonPointer, provider);
+      cache.put(jsonPointer, pointer);
+    }
+    return pointer;
+  }
+
+  static LRUMap<String, JsonNodeJsonPointer> newCache() {
+    return new LRUMap<>(16, CACHE_SIZE);
+  }
+
+  private static com.fasterxml.jackson.core.JsonPointer compileJackson(String jsonPointer) {
+    // Jackson accepts a ~ that is not followed by 0 or 1, RFC 6901 does not
+    int length = jsonPointer.length();
+    for (int i = 0; i < length; i++) {
+      if (jsonPointer.charAt(i) == '~') {
+        char next = i + 1 < length ? jsonPointer.charAt(i + 1) : '\0';
+        if (next != '0' && next != '1') {
+          throw new JsonException("invalid escape in JSON Pointer: " + jsonPointer);
+        }
+      }
+    }
+    try {
+      return com.fasterxml.jackson.core.JsonPointer.compile(jsonPointer);
+    } catch (IllegalArgumentException e) {
+      throw new JsonException("invalid JSON Pointer: " + jsonPointer, e);
+    }
+  }
+
+  com.fasterxml.jackson.core.JsonPointer getJacksonPointer() {
+    return this.compiled;
+  }
+
+  private JsonPointer delegate() {
+    JsonPointer localDelegate = this.delegate;
+    if (localDelegate == null) {
+      JsonProvider localProvider = this.provider != null ? this.provider : JsonProvider.provider();
+      localDelegate = localProvider.createPointer(this.jsonPointer);
+      this.delegate = localDelegate;
+    }
+    return localDelegate;
+  }
+
+  /**
+   * Returns the node referenced by this pointer.
+   *
+   * @param root the node to resolve against, not {@code null}
+   * @return the referenced node, {@code null} if there is none
+   */
+  public JsonNode getJsonNode(JsonNode root) {
+    Objects.requireNonNull(root, "root");
+    JsonNode value = root.at(this.compiled);
+    return value.isMissingNode() ? null : value;
+  }
+
+  @Override
+  public JsonValue getValue(JsonStructure target) {
+    Objects.requireNonNull(target, "target");
+    if (this.compiled.matches()) {
+      return target;
+    }
+    if (target instanceof JsonNodeValue nodeValue) {
+      JsonNode value = this.getJsonNode(nodeValue.getJsonNode());
+      if (value == null) {
+        throw new JsonException("no value at JSON Pointer: " + this.jsonPointer);
+      }
+      return JsonNodeAdapter.adapt(value);
+    }
+    return this.delegate().getValue(target);
+  }
+
+  @Override
+  public boolean containsValue(JsonStructure target) {
+    Objects.requireNonNull(target, "target");
+    if (target instanceof JsonNodeValue nodeValue) {
+      return this.getJsonNode(nodeValue.getJsonNode()) != null;
+    }
+    return this.delegate().containsValue(target);
+  }
+
+  @Override
+  public <T extends JsonStructure> T add(T target, JsonValue value) {
+    return this.delegate().add(target, value);
+  }
+
+  @Override
+  public <T extends JsonStructure> T remove(T target) {
+    return this.delegate().remove(target);
+  }
+
+  @Override
+  public <T extends JsonStructure> T replace(T target, JsonValue value) {
+    return this.delegate().replace(target, value);
+  }
+
+  @Override
+  public String toString() {
+    return this.jsonPointer;
+  }
+
+}
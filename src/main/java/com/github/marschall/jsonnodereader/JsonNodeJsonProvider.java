@@ -0,0 +1,353 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPatchBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * A {@link JsonProvider} that can read Jackson {@link JsonNode}s without
+ * copying them.
+ * <p>
+ * Everything else is delegated to another provider, usually the default
+ * one. This provider is not registered as a service, pass it explicitly
+ * where a {@link JsonProvider} is accepted, eg. to a JSON-B runtime.
+ * 
+ * <pre><code>
+ * JsonNodeJsonProvider provider = new JsonNodeJsonProvider();
+ * try (JsonParser parser = provider.createParser(jsonNode)) {
+ *   // 
+ * }
+ * </code></pre>
+ */
+public final class JsonNodeJsonProvider extends JsonProvider {
+
+  private final JsonProvider delegate;
+
+  private final LRUMap<String, JsonNodeJsonPointer> pointers;
+
+  /**
+   * Initializes a {@link JsonNodeJsonProvider} delegating to the default
+   * provider.
+   * 
+   * @see JsonProvider#provider()
+   */
+  public JsonNodeJsonProvider() {
+    this(JsonProvider.provider());
+  }
+
+  /**
+   * Initializes a {@link JsonNodeJsonProvider}.
+   * 
+   * @param delegate the provider to use for input other than Jackson nodes,
+   *                 not {@code null}
+   */
+  public JsonNodeJsonProvider(JsonProvider delegate) {
+    Objects.requireNonNull(delegate, "delegate");
+    this.delegate = delegate;
+    this.pointers = JsonNodeJsonPointer.newCache();
+  }
+
+  /**
+   * Creates a parser for a Jackson node.
+   * 
+   * @param root the root node, must be an array or object, not {@code null}
+   * @return the parser for {@code root}
+   */
+  public JsonNodeJsonParser createParser(JsonNode root) {
+    return new JsonNodeJsonParser(root);
+  }
+
+  /**
+   * Creates a parser for the parts of a Jackson node selected by a filter.
+   * <p>
+   * The parser emits only the events of the matching subtrees and the
+   * objects and arrays enclosing them.
+   * 
+   * @param root the root node, must be an array or object, not {@code null}
+   * @param filter the filter selecting the subtrees, not {@code null}
+   * @return the parser for the projection of {@code root}
+   * @see JsonNodeFilter#apply(JsonNode)
+   */
+  public JsonNodeJsonParser createParser(JsonNode root, JsonNodeFilter filter) {
+    Objects.requireNonNull(filter, "filter");
+    Objects.requireNonNull(root, "root");
+    if (!root.isContainerNode()) {
+      throw new IllegalArgumentException("unsupported node type");
+    }
+    return new JsonNodeJsonParser(filter.apply(root));
+  }
+
+  /**
+   * Creates a reader for a Jackson node.
+   * 
+   * @param jsonNode the node to read, not {@code null}
+   * @return the reader for {@code jsonNode}
+   */
+  public JsonReader createReader(JsonNode jsonNode) {
+    return new JsonNodeJsonReader(jsonNode);
+  }
+
+  /**
+   * Creates a view on a Jackson node.
+   * 
+   * @param jsonNode the node to view, not {@code null}
+   * @return the view on {@code jsonNode}
+   * @see JsonNodeValues#adapt(JsonNode)
+   */
+  public JsonValue createValue(JsonNode jsonNode) {
+    return JsonNodeValues.adapt(jsonNode);
+  }
+
+  @Override
+  public JsonParser createParser(Reader reader) {
+    return this.delegate.createParser(reader);
+  }
+
+  @Override
+  public JsonParser createParser(InputStream in) {
+    return this.delegate.createParser(in);
+  }
+
+  @Override
+  public JsonNodeJsonParserFactory createParserFactory(Map<String, ?> config) {
+    return new JsonNodeJsonParserFactory(this.delegate.createParserFactory(config));
+  }
+
+  @Override
+  public JsonGenerator createGenerator(Writer writer) {
+    return this.delegate.createGenerator(writer);
+  }
+
+  @Override
+  public JsonGenerator createGenerator(OutputStream out) {
+    return this.delegate.createGenerator(out);
+  }
+
+  @Override
+  public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config) {
+    return this.delegate.createGeneratorFactory(config);
+  }
+
+  @Override
+  public JsonReader createReader(Reader reader) {
+    return this.delegate.createReader(reader);
+  }
+
+  @Override
+  public JsonReader createReader(InputStream in) {
+    return this.delegate.createReader(in);
+  }
+
+  @Override
+  public JsonWriter createWriter(Writer writer) {
+    return this.delegate.createWriter(writer);
+  }
+
+  @Override
+  public JsonWriter createWriter(OutputStream out) {
+    return this.delegate.createWriter(out);
+  }
+
+  @Override
+  public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
+    return this.delegate.createWriterFactory(config);
+  }
+
+  @Override
+  public JsonNodeJsonReaderFactory createReaderFactory(Map<String, ?> config) {
+    return new JsonNodeJsonReaderFactory(this.delegate.createReaderFactory(config));
+  }
+
+  @Override
+  public JsonObjectBuilder createObjectBuilder() {
+    return this.delegate.createObjectBuilder();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Views created by {@link JsonNodeValues} are not copied, the builder only
+   * records the changes.
+   */
+  @Override
+  public JsonObjectBuilder createObjectBuilder(JsonObject object) {
+    if (object instanceof JsonNodeValue) {
+      return new JsonNodeJsonObjectBuilder(object);
+    }
+    return this.delegate.createObjectBuilder(object);
+  }
+
+  @Override
+  public JsonObjectBuilder createObjectBuilder(Map<String, ?> map) {
+    return this.delegate.createObjectBuilder(map);
+  }
+
+  @Override
+  public JsonArrayBuilder createArrayBuilder() {
+    return this.delegate.createArrayBuilder();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Views created by {@link JsonNodeValues} are not copied, the builder only
+   * records the changes.
+   */
+  @Override
+  public JsonArrayBuilder createArrayBuilder(JsonArray array) {
+    if (array instanceof JsonNodeValue) {
+      return new JsonNodeJsonArrayBuilder(array);
+    }
+    return this.delegate.createArrayBuilder(array);
+  }
+
+  @Override
+  public JsonArrayBuilder createArrayBuilder(Collection<?> collection) {
+    return this.delegate.createArrayBuilder(collection);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned pointer resolves directly against views created by
+   * {@link JsonNodeValues}, compiled pointers are cached.
+   */
+  @Override
+  public JsonNodeJsonPointer createPointer(String jsonPointer) {
+    Objects.requireNonNull(jsonPointer, "jsonPointer");
+    return JsonNodeJsonPointer.compile(jsonPointer, this.pointers, this.delegate);
+  }
+
+  @Override
+  public JsonPatchBuilder createPatchBuilder() {
+    return this.delegate.createPatchBuilder();
+  }
+
+  @Override
+  public JsonPatchBuilder createPatchBuilder(JsonArray array) {
+    return this.delegate.createPatchBuilder(array);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned patch produces views on Jackson trees that share unchanged
+   * subtrees with the target.
+   */
+  @Override
+  public JsonNodeJsonPatch createPatch(JsonArray array) {
+    return new JsonNodeJsonPatch(array);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Views created by {@link JsonNodeValues} are diffed on the Jackson trees.
+   *
+   * @see JsonNodeJsonDiff#diff(JsonNode, JsonNode)
+   */
+  @Override
+  public JsonPatch createDiff(JsonStructure source, JsonStructure target) {
+    if (source instanceof JsonNodeValue sourceValue && target instanceof JsonNodeValue targetValue) {
+      return JsonNodeJsonDiff.diff(sourceValue.getJsonNode(), targetValue.getJsonNode());
+    }
+    return this.delegate.createDiff(source, target);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned patch produces views on Jackson trees that share unchanged
+   * members with the target.
+   */
+  @Override
+  public JsonNodeJsonMergePatch createMergePatch(JsonValue patch) {
+    return new JsonNodeJsonMergePatch(patch);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Views created by {@link JsonNodeValues} are diffed on the Jackson trees.
+   *
+   * @see JsonNodeJsonDiff#mergeDiff(JsonNode, JsonNode)
+   */
+  @Override
+  public JsonMergePatch createMergeDiff(JsonValue source, JsonValue target) {
+    if (source instanceof JsonNodeValue sourceValue && target instanceof JsonNodeValue targetValue) {
+      return JsonNodeJsonDiff.mergeDiff(sourceValue.getJsonNode(), targetValue.getJsonNode());
+    }
+    return this.delegate.createMergeDiff(source, target);
+  }
+
+  @Override
+  public JsonBuilderFactory createBuilderFactory(Map<String, ?> config) {
+    return this.delegate.createBuilderFactory(config);
+  }
+
+  @Override
+  public JsonString createValue(String value) {
+    return this.delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(int value) {
+    return this.delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(long value) {
+    return this.delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(double value) {
+    return this.delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(BigDecimal value) {
+    return this.delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(BigInteger value) {
+    return this.delegate.createValue(value);
+  }
+
+  @Override
+  public JsonNumber createValue(Number number) {
+    return this.delegate.createValue(number);
+  }
+
+}
@@ -0,0 +1,78 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.github.marschall.jsonnodereader.JsonNodeJsonParser.LocationUnkown;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * A {@link JsonReader} that returns a view on a Jackson {@link JsonNode}.
+ */
+final class JsonNodeJsonReader implements JsonReader {
+
+  private final JsonNode jsonNode;
+  private boolean done;
+
+  JsonNodeJsonReader(JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode, "jsonNode");
+    this.jsonNode = jsonNode;
+  }
+
+  private void checkState() {
+    if (this.done) {
+      throw new IllegalStateException("read, readObject, readArray, readValue or close method is already called");
+    }
+    this.done = true;
+  }
+
+  @Override
+  public JsonStructure read() {
+    this.checkState();
+    JsonNodeType nodeType = this.jsonNode.getNodeType();
+    return switch (nodeType) {
+      case OBJECT -> new JsonNodeJsonObject(this.jsonNode);
+      case ARRAY -> new JsonNodeJsonArray(this.jsonNode);
+      default -> throw new JsonParsingException("object or array expected but got: " + nodeType, LocationUnkown.INSTANCE);
+    };
+  }
+
+  @Override
+  public JsonObject readObject() {
+    this.checkState();
+    JsonNodeType nodeType = this.jsonNode.getNodeType();
+    if (nodeType != JsonNodeType.OBJECT) {
+      throw new JsonParsingException(JsonNodeType.OBJECT + " expected but got: " + nodeType, LocationUnkown.INSTANCE);
+    }
+    return new JsonNodeJsonObject(this.jsonNode);
+  }
+
+  @Override
+  public JsonArray readArray() {
+    this.checkState();
+    JsonNodeType nodeType = this.jsonNode.getNodeType();
+    if (nodeType != JsonNodeType.ARRAY) {
+      throw new JsonParsingException(JsonNodeType.ARRAY + " expected but got: " + nodeType, LocationUnkown.INSTANCE);
+    }
+    return new JsonNodeJsonArray(this.jsonNode);
+  }
+
+  @Override
+  public JsonValue readValue() {
+    this.checkState();
+    return JsonNodeAdapter.adapt(this.jsonNode);
+  }
+
+  @Override
+  public void close() {
+    this.done = true;
+  }
+
+}
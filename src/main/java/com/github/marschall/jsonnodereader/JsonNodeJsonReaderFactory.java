@@ -0,0 +1,65 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+
+/**
+ * A {@link JsonReaderFactory} that creates readers for Jackson {@link JsonNode}s.
+ * <p>
+ * Readers created for Jackson nodes return views on the node instead of
+ * copying it. All other input is handled by the delegate factory.
+ */
+public final class JsonNodeJsonReaderFactory implements JsonReaderFactory {
+
+  private final JsonReaderFactory delegate;
+
+  /**
+   * Initializes a {@link JsonNodeJsonReaderFactory}.
+   * 
+   * @param delegate the factory to use for input other than Jackson nodes,
+   *                 not {@code null}
+   */
+  public JsonNodeJsonReaderFactory(JsonReaderFactory delegate) {
+    Objects.requireNonNull(delegate, "delegate");
+    this.delegate = delegate;
+  }
+
+  /**
+   * Creates a reader for a Jackson node.
+   * 
+   * @param jsonNode the node to read, not {@code null}
+   * @return the reader for {@code jsonNode}
+   */
+  public JsonReader createReader(JsonNode jsonNode) {
+    return new JsonNodeJsonReader(jsonNode);
+  }
+
+  @Override
+  public JsonReader createReader(Reader reader) {
+    return this.delegate.createReader(reader);
+  }
+
+  @Override
+  public JsonReader createReader(InputStream in) {
+    return this.delegate.createReader(in);
+  }
+
+  @Override
+  public JsonReader createReader(InputStream in, Charset charset) {
+    return this.delegate.createReader(in, charset);
+  }
+
+  @Override
+  public Map<String, ?> getConfigInUse() {
+    return this.delegate.getConfigInUse();
+  }
+
+}
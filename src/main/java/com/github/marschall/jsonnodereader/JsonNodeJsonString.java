@@ -7,7 +7,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import jakarta.json.JsonString;
 
-final class JsonNodeJsonString implements JsonString {
+final class JsonNodeJsonString implements JsonString, JsonNodeValue {
 
   private final JsonNode jsonNode;
 
@@ -16,6 +16,11 @@ final class JsonNodeJsonString implements JsonString {
     this.jsonNode = jsonNode;
   }
 
+  @Override
+  public JsonNode getJsonNode() {
+    return this.jsonNode;
+  }
+
   @Override
   public ValueType getValueType() {
     return ValueType.STRING;
@@ -39,6 +44,9 @@ final class JsonNodeJsonString implements JsonString {
     if (!(obj instanceof JsonString other)) {
       return false;
     }
+    if (other instanceof JsonNodeValue nodeValue) {
+      return JsonNodeAdapter.nodeEquals(this.jsonNode, nodeValue.getJsonNode());
+    }
     return this.getString().equals(other.getString());
   }
 
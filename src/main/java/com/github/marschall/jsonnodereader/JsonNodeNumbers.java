@@ -0,0 +1,172 @@
+package com.github.marschall.jsonnodereader;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.json.JsonNumber;
+
+/**
+ * {@link BigDecimal} semantics for {@link JsonNode} numbers.
+ * <p>
+ * JSON-P defines equality, hash code and string representation of a
+ * {@link JsonNumber} through {@link JsonNumber#bigDecimalValue()}. The
+ * methods in this class produce the same results but avoid allocating a
+ * {@link BigDecimal} for integral nodes and for small integral floating point
+ * nodes.
+ */
+final class JsonNodeNumbers {
+
+  /**
+   * {@link BigDecimal#valueOf(double)} goes through {@link Double#toString(double)}
+   * which uses plain notation with a single trailing {@code 0} for all integral
+   * values below this magnitude.
+   */
+  private static final double PLAIN_NOTATION_LIMIT = 1.0E7d;
+
+  /**
+   * {@link BigDecimal} stores {@link Long#MIN_VALUE} inflated.
+   */
+  private static final int LONG_MIN_VALUE_HASH_CODE = 31 * BigInteger.valueOf(Long.MIN_VALUE).hashCode();
+
+  private JsonNodeNumbers() {
+    throw new AssertionError("not instantiable");
+  }
+
+  static int hashCode(JsonNode jsonNode) {
+    return switch (jsonNode.numberType()) {
+      case INT, LONG -> integralHashCode(jsonNode.longValue());
+      case BIG_INTEGER -> bigIntegerHashCode(jsonNode.bigIntegerValue());
+      case FLOAT, DOUBLE -> {
+        double value = jsonNode.doubleValue();
+        if (isSmallIntegral(value)) {
+          yield compactHashCode(((long) value) * 10L, 1);
+        }
+        yield jsonNode.decimalValue().hashCode();
+      }
+      default -> jsonNode.decimalValue().hashCode();
+    };
+  }
+
+  static boolean equals(JsonNode jsonNode, JsonNumber jsonNumber) {
+    if (jsonNumber instanceof JsonNodeValue nodeValue) {
+      return equals(jsonNode, nodeValue.getJsonNode());
+    }
+    BigDecimal other = jsonNumber.bigDecimalValue();
+    if (isLongType(jsonNode)) {
+      if (other.scale() != 0) {
+        return false;
+      }
+      // precision 18 always fits in a long
+      if (other.precision() < 19) {
+        return other.longValue() == jsonNode.longValue();
+      }
+    }
+    return jsonNode.decimalValue().equals(other);
+  }
+
+  static boolean equals(JsonNode left, JsonNode right) {
+    if (left == right) {
+      return true;
+    }
+    if (isIntegralType(left) && isIntegralType(right)) {
+      // both have scale 0
+      if (isLongType(left)) {
+        if (isLongType(right)) {
+          return left.longValue() == right.longValue();
+        }
+        return bigIntegerEquals(right.bigIntegerValue(), left.longValue());
+      }
+      if (isLongType(right)) {
+        return bigIntegerEquals(left.bigIntegerValue(), right.longValue());
+      }
+      return left.bigIntegerValue().equals(right.bigIntegerValue());
+    }
+    boolean leftSmall = isFloatingPointType(left) && isSmallIntegral(left.doubleValue());
+    boolean rightSmall = isFloatingPointType(right) && isSmallIntegral(right.doubleValue());
+    if (leftSmall && rightSmall) {
+      // both have scale 1
+      return left.doubleValue() == right.doubleValue();
+    }
+    if ((leftSmall && isIntegralType(right)) || (rightSmall && isIntegralType(left))) {
+      // scale 1 and scale 0
+      return false;
+    }
+    return left.decimalValue().equals(right.decimalValue());
+  }
+
+  static String toString(JsonNode jsonNode) {
+    return switch (jsonNode.numberType()) {
+      case INT, LONG -> Long.toString(jsonNode.longValue());
+      case BIG_INTEGER -> jsonNode.bigIntegerValue().toString();
+      case FLOAT, DOUBLE -> {
+        double value = jsonNode.doubleValue();
+        if (isSmallIntegral(value)) {
+          // also turns -0.0 into 0.0
+          yield ((long) value) + ".0";
+        }
+        yield jsonNode.decimalValue().toString();
+      }
+      default -> jsonNode.decimalValue().toString();
+    };
+  }
+
+  private static boolean isLongType(JsonNode jsonNode) {
+    return switch (jsonNode.numberType()) {
+      case INT, LONG -> true;
+      default -> false;
+    };
+  }
+
+  private static boolean isIntegralType(JsonNode jsonNode) {
+    return switch (jsonNode.numberType()) {
+      case INT, LONG, BIG_INTEGER -> true;
+      default -> false;
+    };
+  }
+
+  private static boolean isFloatingPointType(JsonNode jsonNode) {
+    return switch (jsonNode.numberType()) {
+      case FLOAT, DOUBLE -> true;
+      default -> false;
+    };
+  }
+
+  /**
+   * Whether {@code BigDecimal.valueOf(value)} has an unscaled value of
+   * {@code value * 10} and a scale of 1.
+   */
+  private static boolean isSmallIntegral(double value) {
+    return Math.abs(value) < PLAIN_NOTATION_LIMIT && value == Math.rint(value);
+  }
+
+  private static boolean bigIntegerEquals(BigInteger bigInteger, long value) {
+    return bigInteger.bitLength() < Long.SIZE && bigInteger.longValue() == value;
+  }
+
+  private static int integralHashCode(long value) {
+    if (value == Long.MIN_VALUE) {
+      return LONG_MIN_VALUE_HASH_CODE;
+    }
+    return compactHashCode(value, 0);
+  }
+
+  private static int bigIntegerHashCode(BigInteger bigInteger) {
+    if (bigInteger.bitLength() < Long.SIZE) {
+      return integralHashCode(bigInteger.longValue());
+    }
+    return 31 * bigInteger.hashCode();
+  }
+
+  /**
+   * Same as {@link BigDecimal#hashCode()} for values whose unscaled value fits
+   * in a long other than {@link Long#MIN_VALUE}.
+   */
+  private static int compactHashCode(long unscaledValue, int scale) {
+    long magnitude = unscaledValue < 0L ? -unscaledValue : unscaledValue;
+    int temp = (int) (((int) (magnitude >>> 32)) * 31 + (magnitude & 0xFFFFFFFFL));
+    return 31 * (unscaledValue < 0L ? -temp : temp) + scale;
+  }
+
+}
@@ -0,0 +1,206 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.json.JsonException;
+
+/**
+ * Modifies Jackson trees at JSON Pointer locations.
+ * <p>
+ * Unless working in place only the containers on the path to a modified
+ * location are copied, every other subtree is shared with the source. A
+ * container that has already been copied by this instance is modified
+ * directly, a sequence of operations copies every container at most once
+ * unless a node becomes reachable from more than one location.
+ * <p>
+ * Instances are not thread-safe and meant to be used for a single patch.
+ */
+final class JsonNodePatcher {
+
+  private final boolean inPlace;
+
+  /**
+   * Containers copied by this instance, they can be modified directly.
+   */
+  private final Set<JsonNode> owned;
+
+  JsonNodePatcher(boolean inPlace) {
+    this.inPlace = inPlace;
+    this.owned = inPlace ? Set.of() : Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  boolean isInPlace() {
+    return this.inPlace;
+  }
+
+  /**
+   * Forgets the containers copied so far so that they are copied again
+   * before they are modified. Needed once a node is reachable from more than
+   * one location of the result.
+   */
+  void disown() {
+    if (!this.inPlace) {
+      this.owned.clear();
+    }
+  }
+
+  JsonNode get(JsonNode root, JsonPointer path) {
+    if (path.matches()) {
+      return root;
+    }
+    JsonNode value = root.at(path);
+    if (value.isMissingNode()) {
+      throw new JsonException("no value at JSON Pointer: " + path);
+    }
+    return value;
+  }
+
+  JsonNode add(JsonNode root, JsonPointer path, JsonNode value) {
+    if (path.matches()) {
+      return value;
+    }
+    return this.update(root, path, path, (container, segment) -> {
+      if (container.isObject()) {
+        ((ObjectNode) container).set(segment.getMatchingProperty(), value);
+      } else {
+        ArrayNode array = (ArrayNode) container;
+        if (segment.getMatchingProperty().equals("-")) {
+          array.add(value);
+        } else {
+          int index = segment.getMatchingIndex();
+          if (index < 0 || index > array.size()) {
+            throw new JsonException("invalid array index in JSON Pointer: " + path);
+          }
+          array.insert(index, value);
+        }
+      }
+    });
+  }
+
+  JsonNode remove(JsonNode root, JsonPointer path) {
+    if (path.matches()) {
+      throw new JsonException("can not remove the root");
+    }
+    return this.update(root, path, path, (container, segment) -> {
+      if (container.isObject()) {
+        ObjectNode object = (ObjectNode) container;
+        if (object.remove(segment.getMatchingProperty()) == null) {
+          throw new JsonException("no value at JSON Pointer: " + path);
+        }
+      } else {
+        ArrayNode array = (ArrayNode) container;
+        array.remove(existingIndex(array, segment, path));
+      }
+    });
+  }
+
+  JsonNode replace(JsonNode root, JsonPointer path, JsonNode value) {
+    if (path.matches()) {
+      return value;
+    }
+    return this.update(root, path, path, (container, segment) -> {
+      if (container.isObject()) {
+        ObjectNode object = (ObjectNode) container;
+        String property = segment.getMatchingProperty();
+        if (!object.has(property)) {
+          throw new JsonException("no value at JSON Pointer: " + path);
+        }
+        object.set(property, value);
+      } else {
+        ArrayNode array = (ArrayNode) container;
+        array.set(existingIndex(array, segment, path), value);
+      }
+    });
+  }
+
+  private static int existingIndex(ArrayNode array, JsonPointer segment, JsonPointer path) {
+    int index = segment.getMatchingIndex();
+    if (index < 0 || index >= array.size()) {
+      throw new JsonException("no value at JSON Pointer: " + path);
+    }
+    return index;
+  }
+
+  /**
+   * Applies a change to the container holding the last segment of a pointer.
+   *
+   * @param node the current node
+   * @param pointer the remaining pointer relative to {@code node}, not empty
+   * @param path the full pointer, for error messages
+   * @param change the change to apply
+   * @return {@code node} if it was modified directly, otherwise its modified copy
+   */
+  private JsonNode update(JsonNode node, JsonPointer pointer, JsonPointer path, ContainerChange change) {
+    JsonPointer tail = pointer.tail();
+    if (tail.matches()) {
+      JsonNode container = this.writable(node, path);
+      change.apply(container, pointer);
+      return container;
+    }
+    JsonNode child = child(node, pointer);
+    if (child == null) {
+      throw new JsonException("no value at JSON Pointer: " + path);
+    }
+    JsonNode newChild = this.update(child, tail, path, change);
+    if (newChild == child) {
+      return node;
+    }
+    JsonNode container = this.writable(node, path);
+    if (container.isObject()) {
+      ((ObjectNode) container).set(pointer.getMatchingProperty(), newChild);
+    } else {
+      ((ArrayNode) container).set(pointer.getMatchingIndex(), newChild);
+    }
+    return container;
+  }
+
+  private static JsonNode child(JsonNode node, JsonPointer segment) {
+    if (node.isObject()) {
+      return node.get(segment.getMatchingProperty());
+    }
+    if (node.isArray()) {
+      int index = segment.getMatchingIndex();
+      if (index >= 0 && index < node.size()) {
+        return node.get(index);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a container that can be modified, either {@code node} itself or a
+   * shallow copy of it.
+   */
+  JsonNode writable(JsonNode node, JsonPointer path) {
+    if (!node.isContainerNode()) {
+      throw new JsonException("not an object or array at JSON Pointer: " + path);
+    }
+    if (this.inPlace || this.owned.contains(node)) {
+      return node;
+    }
+    JsonNode copy;
+    if (node.isObject()) {
+      copy = JsonNodeFactory.instance.objectNode().setAll((ObjectNode) node);
+    } else {
+      copy = JsonNodeFactory.instance.arrayNode(node.size()).addAll((ArrayNode) node);
+    }
+    this.owned.add(copy);
+    return copy;
+  }
+
+  @FunctionalInterface
+  interface ContainerChange {
+
+    void apply(JsonNode container, JsonPointer segment);
+
+  }
+
+}
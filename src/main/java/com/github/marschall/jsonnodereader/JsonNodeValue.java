@@ -0,0 +1,20 @@
+package com.github.marschall.jsonnodereader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.json.JsonValue;
+
+/**
+ * A {@link JsonValue} that is a view on a Jackson {@link JsonNode}.
+ */
+sealed interface JsonNodeValue extends JsonValue
+  permits JsonNodeJsonObject, JsonNodeJsonArray, JsonNodeJsonString, JsonNodeJsonNumber {
+
+  /**
+   * Returns the backing node.
+   * 
+   * @return the backing node, not {@code null}
+   */
+  JsonNode getJsonNode();
+
+}
@@ -0,0 +1,187 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+/**
+ * Creates Jakarta {@link JsonValue} views on Jackson {@link JsonNode}s
+ * and Jackson {@link JsonNode} views on Jakarta {@link JsonValue}s.
+ * <p>
+ * Views do not copy the node, changes to the node are visible through
+ * the view.
+ */
+public final class JsonNodeValues {
+
+  private JsonNodeValues() {
+    throw new AssertionError("not instantiable");
+  }
+
+  /**
+   * Returns a view on a node.
+   * 
+   * @param jsonNode the node to view, not {@code null}
+   * @return the view on {@code jsonNode}
+   * @throws IllegalArgumentException if {@code jsonNode} is not a JSON value,
+   *                                  eg. a missing node
+   */
+  public static JsonValue adapt(JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode, "jsonNode");
+    return JsonNodeAdapter.adapt(jsonNode);
+  }
+
+  /**
+   * Returns a view on a node that retains the views on its children.
+   * <p>
+   * Repeatedly accessing the same child, directly or through iteration,
+   * returns the same instance without allocating. This applies recursively
+   * to the children of children. In exchange every container view that has
+   * been accessed keeps the views on its accessed children reachable for as
+   * long as it is reachable itself; one slot per element for arrays of up to
+   * 1024 elements, one slot per property for objects of up to 8 properties
+   * and one hash table entry per accessed child for larger containers.
+   * <p>
+   * Changes to the node are still visible, a retained view is only returned
+   * as long as it is on the current child node.
+   * 
+   * @param jsonNode the node to view, not {@code null}
+   * @return the view on {@code jsonNode}
+   * @throws IllegalArgumentException if {@code jsonNode} is not a JSON value,
+   *                                  eg. a missing node
+   */
+  public static JsonValue adaptMemoizing(JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode, "jsonNode");
+    return JsonNodeAdapter.adapt(jsonNode, ViewMode.MEMOIZED);
+  }
+
+  /**
+   * Returns a view on a node that will not be changed anymore.
+   * <p>
+   * In addition to retaining the views on children like
+   * {@link #adaptMemoizing(JsonNode)} the hash codes and string
+   * representations of objects and arrays are computed only once. Hash codes
+   * are computed bottom-up, the hash code of a child is computed once and
+   * shared with all its parents.
+   * <p>
+   * The caller has to ensure that neither {@code jsonNode} nor any of its
+   * descendants is changed after this method has been called, changes may or
+   * may not be visible through the view.
+   * 
+   * @param jsonNode the node to view, not {@code null}, must not be changed
+   * @return the view on {@code jsonNode}
+   * @throws IllegalArgumentException if {@code jsonNode} is not a JSON value,
+   *                                  eg. a missing node
+   */
+  public static JsonValue adaptFrozen(JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode, "jsonNode");
+    return JsonNodeAdapter.adapt(jsonNode, ViewMode.FROZEN);
+  }
+
+  /**
+   * Returns a view on an object node.
+   * 
+   * @param jsonNode the object node to view, not {@code null}
+   * @return the view on {@code jsonNode}
+   * @throws IllegalArgumentException if {@code jsonNode} is not an object
+   */
+  public static JsonObject asJsonObject(JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode, "jsonNode");
+    JsonNodeType nodeType = jsonNode.getNodeType();
+    if (nodeType != JsonNodeType.OBJECT) {
+      throw new IllegalArgumentException(JsonNodeType.OBJECT + " expected but got: " + nodeType);
+    }
+    return new JsonNodeJsonObject(jsonNode);
+  }
+
+  /**
+   * Returns a view on an array node.
+   * 
+   * @param jsonNode the array node to view, not {@code null}
+   * @return the view on {@code jsonNode}
+   * @throws IllegalArgumentException if {@code jsonNode} is not an array
+   */
+  public static JsonArray asJsonArray(JsonNode jsonNode) {
+    Objects.requireNonNull(jsonNode, "jsonNode");
+    JsonNodeType nodeType = jsonNode.getNodeType();
+    if (nodeType != JsonNodeType.ARRAY) {
+      throw new IllegalArgumentException(JsonNodeType.ARRAY + " expected but got: " + nodeType);
+    }
+    return new JsonNodeJsonArray(jsonNode);
+  }
+
+  /**
+   * Returns a Jackson view on a Jakarta value.
+   * <p>
+   * Objects and arrays are read-only {@link com.fasterxml.jackson.databind.node.ObjectNode}s
+   * and {@link com.fasterxml.jackson.databind.node.ArrayNode}s, their children
+   * are adapted when accessed. Views created by this class are unwrapped.
+   * 
+   * @param jsonValue the value to view, not {@code null}
+   * @return the view on {@code jsonValue}
+   */
+  public static JsonNode toJsonNode(JsonValue jsonValue) {
+    Objects.requireNonNull(jsonValue, "jsonValue");
+    return JsonValueAdapter.adapt(jsonValue);
+  }
+
+  /**
+   * Writes a value as UTF-8 encoded JSON to an output stream.
+   * <p>
+   * Views created by this class are written directly from their node
+   * without creating an intermediate {@link String}. The stream is flushed
+   * but not closed.
+   * 
+   * @param jsonValue the value to write, not {@code null}
+   * @param outputStream the stream to write to, not {@code null}
+   * @throws IOException if writing to {@code outputStream} fails
+   */
+  public static void writeTo(JsonValue jsonValue, OutputStream outputStream) throws IOException {
+    Objects.requireNonNull(jsonValue, "jsonValue");
+    Objects.requireNonNull(outputStream, "outputStream");
+    JsonNodeAdapter.OBJECT_WRITER.writeValue(outputStream, JsonValueAdapter.adapt(jsonValue));
+  }
+
+  /**
+   * Writes a value as JSON to a writer.
+   * <p>
+   * Views created by this class are written directly from their node
+   * without creating an intermediate {@link String}. The writer is flushed
+   * but not closed.
+   * 
+   * @param jsonValue the value to write, not {@code null}
+   * @param writer the writer to write to, not {@code null}
+   * @throws IOException if writing to {@code writer} fails
+   */
+  public static void writeTo(JsonValue jsonValue, Writer writer) throws IOException {
+    Objects.requireNonNull(jsonValue, "jsonValue");
+    Objects.requireNonNull(writer, "writer");
+    JsonNodeAdapter.OBJECT_WRITER.writeValue(writer, JsonValueAdapter.adapt(jsonValue));
+  }
+
+  /**
+   * Writes a value as UTF-8 encoded JSON to a channel.
+   * <p>
+   * Views created by this class are written directly from their node
+   * without creating an intermediate {@link String}. The channel is not
+   * closed.
+   * 
+   * @param jsonValue the value to write, not {@code null}
+   * @param channel the channel to write to, not {@code null}
+   * @throws IOException if writing to {@code channel} fails
+   */
+  public static void writeTo(JsonValue jsonValue, WritableByteChannel channel) throws IOException {
+    Objects.requireNonNull(channel, "channel");
+    writeTo(jsonValue, Channels.newOutputStream(channel));
+  }
+
+}
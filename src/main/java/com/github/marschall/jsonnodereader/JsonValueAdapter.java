@@ -0,0 +1,194 @@
+package com.github.marschall.jsonnodereader;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Adapts Jakarta {@link JsonValue}s to Jackson {@link JsonNode}s, the reverse
+ * of {@link JsonNodeAdapter}.
+ * <p>
+ * Objects and arrays are {@link ObjectNode}s and {@link ArrayNode}s backed by
+ * read-only {@link Map} and {@link java.util.List} views, children are
+ * adapted when they are accessed.
+ */
+final class JsonValueAdapter {
+
+  private JsonValueAdapter() {
+    throw new AssertionError("not instantiable");
+  }
+
+  static JsonNode adapt(JsonValue jsonValue) {
+    if (jsonValue instanceof JsonNodeValue jsonNodeValue) {
+      return jsonNodeValue.getJsonNode();
+    }
+    return switch (jsonValue.getValueType()) {
+      case OBJECT -> new ObjectNode(JsonNodeFactory.instance, new JsonObjectMap((JsonObject) jsonValue));
+      case ARRAY -> new ArrayNode(JsonNodeFactory.instance, new JsonArrayList((JsonArray) jsonValue));
+      case STRING -> TextNode.valueOf(((JsonString) jsonValue).getString());
+      case NUMBER -> adaptNumber((JsonNumber) jsonValue);
+      case TRUE -> BooleanNode.TRUE;
+      case FALSE -> BooleanNode.FALSE;
+      case NULL -> NullNode.getInstance();
+    };
+  }
+
+  private static JsonNode adaptNumber(JsonNumber jsonNumber) {
+    // avoid BigDecimal for numbers that are not backed by one
+    Number number;
+    try {
+      number = jsonNumber.numberValue();
+    } catch (UnsupportedOperationException e) {
+      // optional operation
+      number = null;
+    }
+    if (number instanceof Integer i) {
+      return IntNode.valueOf(i);
+    } else if (number instanceof Long l) {
+      // like Jackson use the smallest type that fits
+      long value = l;
+      if (value == (int) value) {
+        return IntNode.valueOf((int) value);
+      }
+      return LongNode.valueOf(value);
+    } else if (number instanceof Double d) {
+      return DoubleNode.valueOf(d);
+    }
+    BigDecimal decimal = jsonNumber.bigDecimalValue();
+    if (decimal.scale() != 0) {
+      return DecimalNode.valueOf(decimal);
+    }
+    int bitLength = decimal.unscaledValue().bitLength();
+    if (bitLength < Integer.SIZE) {
+      return IntNode.valueOf(decimal.intValue());
+    } else if (bitLength < Long.SIZE) {
+      return LongNode.valueOf(decimal.longValue());
+    } else {
+      return BigIntegerNode.valueOf(decimal.unscaledValue());
+    }
+  }
+
+  static final class JsonObjectMap extends AbstractMap<String, JsonNode> {
+
+    private final JsonObject jsonObject;
+
+    JsonObjectMap(JsonObject jsonObject) {
+      this.jsonObject = jsonObject;
+    }
+
+    @Override
+    public int size() {
+      return this.jsonObject.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.jsonObject.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return this.jsonObject.containsKey(key);
+    }
+
+    @Override
+    public JsonNode get(Object key) {
+      JsonValue value = this.jsonObject.get(key);
+      if (value == null) {
+        return null;
+      }
+      return adapt(value);
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+      return new EntrySet(this.jsonObject.entrySet());
+    }
+
+  }
+
+  static final class EntrySet extends AbstractSet<Entry<String, JsonNode>> {
+
+    private final Set<Entry<String, JsonValue>> entries;
+
+    EntrySet(Set<Entry<String, JsonValue>> entries) {
+      this.entries = entries;
+    }
+
+    @Override
+    public int size() {
+      return this.entries.size();
+    }
+
+    @Override
+    public Iterator<Entry<String, JsonNode>> iterator() {
+      Iterator<Entry<String, JsonValue>> iterator = this.entries.iterator();
+      return new Iterator<>() {
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, JsonNode> next() {
+          Entry<String, JsonValue> entry = iterator.next();
+          return new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), adapt(entry.getValue()));
+        }
+
+      };
+    }
+
+  }
+
+  static final class JsonArrayList extends AbstractList<JsonNode> implements RandomAccess {
+
+    private final JsonArray jsonArray;
+
+    JsonArrayList(JsonArray jsonArray) {
+      this.jsonArray = jsonArray;
+    }
+
+    @Override
+    public JsonNode get(int index) {
+      return adapt(this.jsonArray.get(index));
+    }
+
+    @Override
+    public int size() {
+      return this.jsonArray.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return this.jsonArray.isEmpty();
+    }
+
+  }
+
+}
@@ -0,0 +1,248 @@
+package com.github.marschall.jsonnodereader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * A Jakarta {@link JsonParser} that is fed input in chunks of
+ * {@link ByteBuffer}s and never blocks waiting for input.
+ * <p>
+ * Uses the Jackson non-blocking parser, memory use depends on the nesting
+ * depth and the size of the largest token but not on the size of the input.
+ * <p>
+ * Input is given with {@link #feed(ByteBuffer)}, {@link #nextAvailable()}
+ * returns {@code null} when all input has been consumed and more input is
+ * needed. {@link #next()} fails instead. Once all input has been given
+ * {@link #endOfInput()} has to be called. A buffer must not be modified until
+ * it has been consumed.
+ * <p>
+ * {@link #getObject()}, {@link #getArray()} and {@link #getValue()} on a
+ * structure are not supported as they would have to wait for input.
+ * {@link #skipObject()} and {@link #skipArray()} complete as input is fed.
+ * 
+ * @see ByteBufferJsonSubscriber
+ */
+public final class NonBlockingJacksonJsonParser extends AbstractJacksonJsonParser {
+
+  private final ByteBufferFeeder feeder;
+
+  /**
+   * Number of structures that still have to be closed by a skip.
+   */
+  private int pendingSkip;
+
+  /**
+   * Whether the structure currently being skipped is the root.
+   */
+  private boolean skipEndsRoot;
+
+  /**
+   * Initializes a {@link NonBlockingJacksonJsonParser} using a default Jackson
+   * {@link JsonFactory}.
+   */
+  public NonBlockingJacksonJsonParser() {
+    this(JsonNodeAdapter.OBJECT_MAPPER.getFactory());
+  }
+
+  /**
+   * Initializes a {@link NonBlockingJacksonJsonParser}.
+   * 
+   * @param factory the factory to use to create the Jackson parser,
+   *                not {@code null}
+   */
+  public NonBlockingJacksonJsonParser(JsonFactory factory) {
+    super(createParser(factory));
+    this.feeder = (ByteBufferFeeder) this.parser.getNonBlockingInputFeeder();
+  }
+
+  private static com.fasterxml.jackson.core.JsonParser createParser(JsonFactory factory) {
+    Objects.requireNonNull(factory, "factory");
+    try {
+      return factory.createNonBlockingByteBufferParser();
+    } catch (IOException e) {
+      throw new JsonException("could not create parser", e);
+    }
+  }
+
+  /**
+   * Whether all input given so far has been consumed.
+   * 
+   * @return {@code true} if {@link #feed(ByteBuffer)} can be called
+   */
+  public boolean needsInput() {
+    return this.feeder.needMoreInput();
+  }
+
+  /**
+   * Gives the next chunk of input.
+   * 
+   * @param input the next chunk of input, not {@code null}, must not be
+   *              modified until consumed
+   * @throws IllegalStateException if the previous input has not been consumed yet
+   * @throws JsonParsingException if there is content after the root value
+   */
+  public void feed(ByteBuffer input) {
+    Objects.requireNonNull(input, "input");
+    try {
+      if (!this.feeder.needMoreInput()) {
+        if (!this.isRootComplete()) {
+          throw new IllegalStateException("previous input has not been consumed yet");
+        }
+        // only white space is allowed after the root value
+        JsonToken token = this.parser.nextToken();
+        if (token != JsonToken.NOT_AVAILABLE && token != null) {
+          throw new JsonParsingException("unexpected content after root value", this.getLocation());
+        }
+      }
+      this.feeder.feedInput(input);
+      this.continueSkip();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  /**
+   * Signals that all input has been given.
+   */
+  public void endOfInput() {
+    this.feeder.endOfInput();
+    try {
+      this.continueSkip();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  private boolean continueSkip() throws IOException {
+    while (this.pendingSkip > 0) {
+      JsonToken token = this.parser.nextToken();
+      if (token == JsonToken.NOT_AVAILABLE) {
+        return false;
+      }
+      if (token == null) {
+        throw new JsonParsingException("unexpected end of input", this.getLocation());
+      }
+      if (token.isStructStart()) {
+        this.pendingSkip += 1;
+      } else if (token.isStructEnd()) {
+        this.pendingSkip -= 1;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (this.pendingSkip > 0) {
+      return !this.skipEndsRoot;
+    }
+    return !this.isRootComplete();
+  }
+
+  /**
+   * Returns the next event if enough input is available.
+   * 
+   * @return the next event, {@code null} if more input is needed
+   * @throws NoSuchElementException if there are no more events
+   */
+  public Event nextAvailable() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      if (!this.continueSkip()) {
+        return null;
+      }
+      JsonToken token = this.parser.nextToken();
+      if (token == JsonToken.NOT_AVAILABLE) {
+        return null;
+      }
+      if (token == null) {
+        throw new NoSuchElementException();
+      }
+      this.currentEvent = this.toEvent(token);
+      return this.currentEvent;
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * 
+   * @throws IllegalStateException if more input is needed
+   * @see #nextAvailable()
+   */
+  @Override
+  public Event next() {
+    Event event = this.nextAvailable();
+    if (event == null) {
+      throw new IllegalStateException("more input needed");
+    }
+    return event;
+  }
+
+  @Override
+  public JsonObject getObject() {
+    throw new UnsupportedOperationException("not supported by non-blocking parser");
+  }
+
+  @Override
+  public JsonArray getArray() {
+    throw new UnsupportedOperationException("not supported by non-blocking parser");
+  }
+
+  @Override
+  public JsonValue getValue() {
+    if (this.currentEvent == null) {
+      throw new IllegalStateException("no current event");
+    }
+    return switch (this.currentEvent) {
+      case END_OBJECT, END_ARRAY -> throw new IllegalStateException("in state end");
+      case START_ARRAY, START_OBJECT -> throw new UnsupportedOperationException("not supported by non-blocking parser");
+      default -> this.getScalarValue();
+    };
+  }
+
+  @Override
+  public void skipArray() {
+    if (this.pendingSkip == 0 && this.parser.getParsingContext().inArray()) {
+      this.skip();
+      this.currentEvent = Event.END_ARRAY;
+    }
+  }
+
+  @Override
+  public void skipObject() {
+    if (this.pendingSkip == 0 && this.parser.getParsingContext().inObject()) {
+      this.skip();
+      this.currentEvent = Event.END_OBJECT;
+    }
+  }
+
+  private void skip() {
+    JsonStreamContext context = this.parser.getParsingContext();
+    this.skipEndsRoot = isInRoot(context.getParent());
+    this.pendingSkip = 1;
+    try {
+      this.continueSkip();
+    } catch (IOException e) {
+      throw this.toJsonException(e);
+    }
+  }
+
+}
@@ -0,0 +1,27 @@
+package com.github.marschall.jsonnodereader;
+
+/**
+ * How elements that are not numbers are handled when a JSON array is read
+ * into a primitive array.
+ * 
+ * @see PrimitiveJsonArray
+ * @see PrimitiveJsonParser#getIntArray(NumberConversion)
+ */
+public enum NumberConversion {
+
+  /**
+   * Elements that are not numbers are rejected with a
+   * {@link ClassCastException}.
+   */
+  STRICT,
+
+  /**
+   * Elements that are not numbers are converted like
+   * {@link com.fasterxml.jackson.databind.JsonNode#asInt()},
+   * {@link com.fasterxml.jackson.databind.JsonNode#asLong()} and
+   * {@link com.fasterxml.jackson.databind.JsonNode#asDouble()} do. Strings
+   * are parsed, {@code true} is {@code 1} and everything else is {@code 0}.
+   */
+  LENIENT;
+
+}
@@ -0,0 +1,246 @@
+package com.github.marschall.jsonnodereader;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeType;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import jakarta.json.stream.JsonParser.Event;
+
+/**
+ * Reads JSON arrays into primitive arrays, either from an array node or
+ * from a parser at {@link Event#START_ARRAY}.
+ */
+final class PrimitiveArrays {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private PrimitiveArrays() {
+    throw new AssertionError("not instantiable");
+  }
+
+  static int[] getIntArray(JsonNode array, NumberConversion conversion) {
+    int[] values = new int[array.size()];
+    getIntArray(array, conversion, values, 0);
+    return values;
+  }
+
+  static int getIntArray(JsonNode array, NumberConversion conversion, int[] destination, int offset) {
+    Objects.requireNonNull(conversion, "conversion");
+    int size = array.size();
+    Objects.checkFromIndexSize(offset, size, destination.length);
+    for (int i = 0; i < size; i++) {
+      destination[offset + i] = intValue(array.get(i), conversion);
+    }
+    return size;
+  }
+
+  static long[] getLongArray(JsonNode array, NumberConversion conversion) {
+    long[] values = new long[array.size()];
+    getLongArray(array, conversion, values, 0);
+    return values;
+  }
+
+  static int getLongArray(JsonNode array, NumberConversion conversion, long[] destination, int offset) {
+    Objects.requireNonNull(conversion, "conversion");
+    int size = array.size();
+    Objects.checkFromIndexSize(offset, size, destination.length);
+    for (int i = 0; i < size; i++) {
+      destination[offset + i] = longValue(array.get(i), conversion);
+    }
+    return size;
+  }
+
+  static double[] getDoubleArray(JsonNode array, NumberConversion conversion) {
+    double[] values = new double[array.size()];
+    getDoubleArray(array, conversion, values, 0);
+    return values;
+  }
+
+  static int getDoubleArray(JsonNode array, NumberConversion conversion, double[] destination, int offset) {
+    Objects.requireNonNull(conversion, "conversion");
+    int size = array.size();
+    Objects.checkFromIndexSize(offset, size, destination.length);
+    for (int i = 0; i < size; i++) {
+      destination[offset + i] = doubleValue(array.get(i), conversion);
+    }
+    return size;
+  }
+
+  private static int intValue(JsonNode element, NumberConversion conversion) {
+    if (element.isNumber()) {
+      return element.intValue();
+    }
+    checkLenient(element.getNodeType(), conversion);
+    return element.asInt();
+  }
+
+  private static long longValue(JsonNode element, NumberConversion conversion) {
+    if (element.isNumber()) {
+      return element.longValue();
+    }
+    checkLenient(element.getNodeType(), conversion);
+    return element.asLong();
+  }
+
+  private static double doubleValue(JsonNode element, NumberConversion conversion) {
+    if (element.isNumber()) {
+      return element.doubleValue();
+    }
+    checkLenient(element.getNodeType(), conversion);
+    return element.asDouble();
+  }
+
+  private static void checkLenient(JsonNodeType nodeType, NumberConversion conversion) {
+    if (conversion == NumberConversion.STRICT) {
+      throw new ClassCastException(JsonNodeType.NUMBER + " expected but got: " + nodeType);
+    }
+  }
+
+  static int[] getIntArray(PrimitiveJsonParser parser, NumberConversion conversion) {
+    checkStartArray(parser, conversion);
+    int[] values = new int[INITIAL_CAPACITY];
+    int size = 0;
+    Event event;
+    while ((event = parser.next()) != Event.END_ARRAY) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = intValue(parser, event, conversion);
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  static int getIntArray(PrimitiveJsonParser parser, NumberConversion conversion, int[] destination, int offset) {
+    checkStartArray(parser, conversion);
+    Objects.checkFromIndexSize(offset, 0, destination.length);
+    int index = offset;
+    Event event;
+    while ((event = parser.next()) != Event.END_ARRAY) {
+      destination[Objects.checkIndex(index, destination.length)] = intValue(parser, event, conversion);
+      index += 1;
+    }
+    return index - offset;
+  }
+
+  static long[] getLongArray(PrimitiveJsonParser parser, NumberConversion conversion) {
+    checkStartArray(parser, conversion);
+    long[] values = new long[INITIAL_CAPACITY];
+    int size = 0;
+    Event event;
+    while ((event = parser.next()) != Event.END_ARRAY) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = longValue(parser, event, conversion);
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  static int getLongArray(PrimitiveJsonParser parser, NumberConversion conversion, long[] destination, int offset) {
+    checkStartArray(parser, conversion);
+    Objects.checkFromIndexSize(offset, 0, destination.length);
+    int index = offset;
+    Event event;
+    while ((event = parser.next()) != Event.END_ARRAY) {
+      destination[Objects.checkIndex(index, destination.length)] = longValue(parser, event, conversion);
+      index += 1;
+    }
+    return index - offset;
+  }
+
+  static double[] getDoubleArray(PrimitiveJsonParser parser, NumberConversion conversion) {
+    checkStartArray(parser, conversion);
+    double[] values = new double[INITIAL_CAPACITY];
+    int size = 0;
+    Event event;
+    while ((event = parser.next()) != Event.END_ARRAY) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = doubleValue(parser, event, conversion);
+    }
+    return Arrays.copyOf(values, size);
+  }
+
+  static int getDoubleArray(PrimitiveJsonParser parser, NumberConversion conversion, double[] destination, int offset) {
+    checkStartArray(parser, conversion);
+    Objects.checkFromIndexSize(offset, 0, destination.length);
+    int index = offset;
+    Event event;
+    while ((event = parser.next()) != Event.END_ARRAY) {
+      destination[Objects.checkIndex(index, destination.length)] = doubleValue(parser, event, conversion);
+      index += 1;
+    }
+    return index - offset;
+  }
+
+  private static void checkStartArray(PrimitiveJsonParser parser, NumberConversion conversion) {
+    Objects.requireNonNull(conversion, "conversion");
+    if (parser.currentEvent() != Event.START_ARRAY) {
+      throw new IllegalStateException("not in start array");
+    }
+  }
+
+  private static int intValue(PrimitiveJsonParser parser, Event event, NumberConversion conversion) {
+    if (event == Event.VALUE_NUMBER) {
+      return parser.getInt();
+    }
+    checkLenient(event, conversion);
+    return switch (event) {
+      case VALUE_TRUE -> 1;
+      case VALUE_STRING -> TextNode.valueOf(parser.getString()).asInt();
+      default -> {
+        skipStructure(parser, event);
+        yield 0;
+      }
+    };
+  }
+
+  private static long longValue(PrimitiveJsonParser parser, Event event, NumberConversion conversion) {
+    if (event == Event.VALUE_NUMBER) {
+      return parser.getLong();
+    }
+    checkLenient(event, conversion);
+    return switch (event) {
+      case VALUE_TRUE -> 1L;
+      case VALUE_STRING -> TextNode.valueOf(parser.getString()).asLong();
+      default -> {
+        skipStructure(parser, event);
+        yield 0L;
+      }
+    };
+  }
+
+  private static double doubleValue(PrimitiveJsonParser parser, Event event, NumberConversion conversion) {
+    if (event == Event.VALUE_NUMBER) {
+      return parser.getDouble();
+    }
+    checkLenient(event, conversion);
+    return switch (event) {
+      case VALUE_TRUE -> 1.0d;
+      case VALUE_STRING -> TextNode.valueOf(parser.getString()).asDouble();
+      default -> {
+        skipStructure(parser, event);
+        yield 0.0d;
+      }
+    };
+  }
+
+  private static void checkLenient(Event event, NumberConversion conversion) {
+    if (conversion == NumberConversion.STRICT) {
+      throw new ClassCastException(Event.VALUE_NUMBER + " expected but got: " + event);
+    }
+  }
+
+  private static void skipStructure(PrimitiveJsonParser parser, Event event) {
+    if (event == Event.START_ARRAY) {
+      parser.skipArray();
+    } else if (event == Event.START_OBJECT) {
+      parser.skipObject();
+    }
+  }
+
+}
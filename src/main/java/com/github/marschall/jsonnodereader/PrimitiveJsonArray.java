@@ -0,0 +1,92 @@
+package com.github.marschall.jsonnodereader;
+
+import jakarta.json.JsonArray;
+
+/**
+ * Extension of {@link JsonArray} giving access to the elements as primitive
+ * arrays.
+ * <p>
+ * The elements are read in a single pass without creating a
+ * {@link jakarta.json.JsonNumber} per element. Numbers are converted the
+ * same way as {@link jakarta.json.JsonNumber#intValue()},
+ * {@link jakarta.json.JsonNumber#longValue()} and
+ * {@link jakarta.json.JsonNumber#doubleValue()}, which may lose precision.
+ * <p>
+ * Non-empty arrays created by {@link JsonNodeValues} and
+ * {@link JsonNodeJsonParser} implement this interface.
+ */
+public interface PrimitiveJsonArray extends JsonArray {
+
+  /**
+   * Returns the elements as {@code int}s.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @return a new array with one {@code int} per element
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   */
+  int[] getIntArray(NumberConversion conversion);
+
+  /**
+   * Copies the elements as {@code int}s into an existing array.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @param destination the array to copy into, not {@code null}
+   * @param offset the index in {@code destination} of the first element
+   * @return the number of elements copied, the size of this array
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   * @throws IndexOutOfBoundsException if the elements do not fit into
+   *                                   {@code destination} at {@code offset}
+   */
+  int getIntArray(NumberConversion conversion, int[] destination, int offset);
+
+  /**
+   * Returns the elements as {@code long}s.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @return a new array with one {@code long} per element
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   */
+  long[] getLongArray(NumberConversion conversion);
+
+  /**
+   * Copies the elements as {@code long}s into an existing array.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @param destination the array to copy into, not {@code null}
+   * @param offset the index in {@code destination} of the first element
+   * @return the number of elements copied, the size of this array
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   * @throws IndexOutOfBoundsException if the elements do not fit into
+   *                                   {@code destination} at {@code offset}
+   */
+  int getLongArray(NumberConversion conversion, long[] destination, int offset);
+
+  /**
+   * Returns the elements as {@code double}s.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @return a new array with one {@code double} per element
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   */
+  double[] getDoubleArray(NumberConversion conversion);
+
+  /**
+   * Copies the elements as {@code double}s into an existing array.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @param destination the array to copy into, not {@code null}
+   * @param offset the index in {@code destination} of the first element
+   * @return the number of elements copied, the size of this array
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   * @throws IndexOutOfBoundsException if the elements do not fit into
+   *                                   {@code destination} at {@code offset}
+   */
+  int getDoubleArray(NumberConversion conversion, double[] destination, int offset);
+
+}
@@ -0,0 +1,158 @@
+package com.github.marschall.jsonnodereader;
+
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Extension of {@link JsonParser} giving access to numbers as primitives.
+ * <p>
+ * Allows binders to read floating point numbers without going through
+ * {@link java.math.BigDecimal} and to pick the narrowest accessor based on
+ * how the number is stored. Numeric arrays can be read into primitive arrays
+ * without creating a {@link jakarta.json.JsonNumber} per element.
+ */
+public interface PrimitiveJsonParser extends JsonParser {
+
+  /**
+   * Returns a JSON number as a {@code double}.
+   * <p>
+   * This may lose precision, use {@link #getBigDecimal()} if exact values
+   * are required.
+   * 
+   * @return the {@code double} value of the JSON number
+   * @throws IllegalStateException if the parser state is not {@link Event#VALUE_NUMBER}
+   */
+  double getDouble();
+
+  /**
+   * Returns a JSON number as a {@code float}.
+   * <p>
+   * This may lose precision, use {@link #getBigDecimal()} if exact values
+   * are required.
+   * 
+   * @return the {@code float} value of the JSON number
+   * @throws IllegalStateException if the parser state is not {@link Event#VALUE_NUMBER}
+   */
+  float getFloat();
+
+  /**
+   * Returns how the current JSON number is represented.
+   * 
+   * @return the representation of the JSON number, not {@code null}
+   * @throws IllegalStateException if the parser state is not {@link Event#VALUE_NUMBER}
+   */
+  NumberType getNumberKind();
+
+  /**
+   * Reads the current array as {@code int}s.
+   * <p>
+   * The parser is advanced to {@link Event#END_ARRAY}. Numbers are converted
+   * the same way as {@link #getInt()}.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @return a new array with one {@code int} per element
+   * @throws IllegalStateException if the parser state is not {@link Event#START_ARRAY}
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   */
+  default int[] getIntArray(NumberConversion conversion) {
+    return PrimitiveArrays.getIntArray(this, conversion);
+  }
+
+  /**
+   * Reads the current array as {@code int}s into an existing array.
+   * <p>
+   * The parser is advanced to {@link Event#END_ARRAY}. Numbers are converted
+   * the same way as {@link #getInt()}.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @param destination the array to read into, not {@code null}
+   * @param offset the index in {@code destination} of the first element
+   * @return the number of elements read
+   * @throws IllegalStateException if the parser state is not {@link Event#START_ARRAY}
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   * @throws IndexOutOfBoundsException if the elements do not fit into
+   *                                   {@code destination} at {@code offset},
+   *                                   the parser state is undefined afterwards
+   */
+  default int getIntArray(NumberConversion conversion, int[] destination, int offset) {
+    return PrimitiveArrays.getIntArray(this, conversion, destination, offset);
+  }
+
+  /**
+   * Reads the current array as {@code long}s.
+   * <p>
+   * The parser is advanced to {@link Event#END_ARRAY}. Numbers are converted
+   * the same way as {@link #getLong()}.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @return a new array with one {@code long} per element
+   * @throws IllegalStateException if the parser state is not {@link Event#START_ARRAY}
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   */
+  default long[] getLongArray(NumberConversion conversion) {
+    return PrimitiveArrays.getLongArray(this, conversion);
+  }
+
+  /**
+   * Reads the current array as {@code long}s into an existing array.
+   * <p>
+   * The parser is advanced to {@link Event#END_ARRAY}. Numbers are converted
+   * the same way as {@link #getLong()}.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @param destination the array to read into, not {@code null}
+   * @param offset the index in {@code destination} of the first element
+   * @return the number of elements read
+   * @throws IllegalStateException if the parser state is not {@link Event#START_ARRAY}
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   * @throws IndexOutOfBoundsException if the elements do not fit into
+   *                                   {@code destination} at {@code offset},
+   *                                   the parser state is undefined afterwards
+   */
+  default int getLongArray(NumberConversion conversion, long[] destination, int offset) {
+    return PrimitiveArrays.getLongArray(this, conversion, destination, offset);
+  }
+
+  /**
+   * Reads the current array as {@code double}s.
+   * <p>
+   * The parser is advanced to {@link Event#END_ARRAY}. Numbers are converted
+   * the same way as {@link #getDouble()}.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @return a new array with one {@code double} per element
+   * @throws IllegalStateException if the parser state is not {@link Event#START_ARRAY}
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   */
+  default double[] getDoubleArray(NumberConversion conversion) {
+    return PrimitiveArrays.getDoubleArray(this, conversion);
+  }
+
+  /**
+   * Reads the current array as {@code double}s into an existing array.
+   * <p>
+   * The parser is advanced to {@link Event#END_ARRAY}. Numbers are converted
+   * the same way as {@link #getDouble()}.
+   * 
+   * @param conversion how elements that are not numbers are handled, not {@code null}
+   * @param destination the array to read into, not {@code null}
+   * @param offset the index in {@code destination} of the first element
+   * @return the number of elements read
+   * @throws IllegalStateException if the parser state is not {@link Event#START_ARRAY}
+   * @throws ClassCastException if an element is not a number and
+   *                            {@code conversion} is {@link NumberConversion#STRICT}
+   * @throws IndexOutOfBoundsException if the elements do not fit into
+   *                                   {@code destination} at {@code offset},
+   *                                   the parser state is undefined afterwards
+   */
+  default int getDoubleArray(NumberConversion conversion, double[] destination, int offset) {
+    return PrimitiveArrays.getDoubleArray(this, conversion, destination, offset);
+  }
+
+}
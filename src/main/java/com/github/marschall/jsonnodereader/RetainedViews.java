@@ -0,0 +1,115 @@
+package com.github.marschall.jsonnodereader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Retained views on the children of a large container, keyed by the identity
+ * of their nodes.
+ * <p>
+ * An open addressing hash table with linear probing. Lookups do not
+ * allocate. Instances are not synchronized, concurrent updates may lose
+ * retained views but a lookup never returns a view on another node because
+ * the node of every view is compared.
+ * <p>
+ * Views are never removed. Views on nodes that have been replaced in the
+ * container stay retained until the table holds twice as many views as the
+ * container has children, then the table is cleared.
+ */
+final class RetainedViews {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private JsonNodeValue[] table;
+
+  private int size;
+
+  RetainedViews() {
+    this.table = new JsonNodeValue[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Returns the retained view on a node.
+   *
+   * @param node the node of the view
+   * @return the retained view on {@code node}, {@code null} if none
+   */
+  JsonNodeValue get(JsonNode node) {
+    JsonNodeValue[] localTable = this.table;
+    int mask = localTable.length - 1;
+    int index = index(node, mask);
+    for (int probes = 0; probes < localTable.length; probes++) {
+      JsonNodeValue view = localTable[index];
+      if (view == null) {
+        return null;
+      }
+      if (view.getJsonNode() == node) {
+        return view;
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  /**
+   * Retains a view.
+   *
+   * @param view the view to retain
+   * @param containerSize the current number of children of the container
+   */
+  void put(JsonNodeValue view, int containerSize) {
+    JsonNodeValue[] localTable = this.table;
+    if (this.size >= 2 * containerSize) {
+      // only views on replaced nodes can make the table this large
+      localTable = new JsonNodeValue[INITIAL_CAPACITY];
+      this.table = localTable;
+      this.size = 0;
+    } else if ((this.size + 1) * 4 > localTable.length * 3) {
+      localTable = resize(localTable);
+      this.table = localTable;
+    }
+    if (insert(localTable, view)) {
+      this.size += 1;
+    }
+  }
+
+  private static JsonNodeValue[] resize(JsonNodeValue[] table) {
+    JsonNodeValue[] resized = new JsonNodeValue[table.length * 2];
+    for (JsonNodeValue view : table) {
+      if (view != null) {
+        insert(resized, view);
+      }
+    }
+    return resized;
+  }
+
+  /**
+   * Inserts a view into a table.
+   *
+   * @return whether a new entry was added, {@code false} if a view on the
+   *         same node was replaced or the table is full because of a race
+   */
+  private static boolean insert(JsonNodeValue[] table, JsonNodeValue view) {
+    JsonNode node = view.getJsonNode();
+    int mask = table.length - 1;
+    int index = index(node, mask);
+    for (int probes = 0; probes < table.length; probes++) {
+      JsonNodeValue current = table[index];
+      if (current == null) {
+        table[index] = view;
+        return true;
+      }
+      if (current.getJsonNode() == node) {
+        table[index] = view;
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+    return false;
+  }
+
+  private static int index(JsonNode node, int mask) {
+    int hash = System.identityHashCode(node);
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.github.marschall.jsonnodereader;
+
+/**
+ * How object and array views adapt their children.
+ */
+enum ViewMode {
+
+  /**
+   * Every access creates a new view on the child, nothing is retained.
+   */
+  LIVE,
+
+  /**
+   * Views on children are created once and retained by the container view,
+   * repeated access returns the same instance.
+   * <p>
+   * Arrays with up to 1024 elements retain a slot array with one entry per
+   * element, objects with up to 8 properties one with one entry per
+   * property. Larger containers, and objects that grew beyond their slots,
+   * retain an identity hash table with one entry per accessed child. A
+   * retained view is only returned as long as it is still on the current
+   * child node. Under concurrent access two threads may each create a view
+   * on the same child.
+   */
+  MEMOIZED,
+
+  /**
+   * Like {@link #MEMOIZED} but the node must not be changed anymore. In
+   * addition the hash code and the string representation are cached. The
+   * hash code is computed bottom-up from the cached hash codes of the child
+   * views.
+   */
+  FROZEN;
+
+}
@@ -0,0 +1,175 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonLocation;
+
+class JakartaJsonParserAdapterTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final String SAMPLE_JSON = "{\"key1\":[1,1234567890,1.1,true,false,null],\"key2\":[\"string\",-2,{}],\"key3\":9223372036854775808}";
+
+  record Sample(List<Object> key1, List<Object> key2, BigDecimal key3) {
+
+  }
+
+  record Point(int x, long y, double z, String name) {
+
+  }
+
+  @Test
+  void readTreeFromParsson() throws IOException {
+    try (JsonParser parser = new JakartaJsonParserAdapter(Json.createParser(new StringReader(SAMPLE_JSON)))) {
+      assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), OBJECT_MAPPER.readTree(parser));
+    }
+  }
+
+  @Test
+  void readValueFromJsonNode() throws IOException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree("[{\"x\": 1, \"y\": 9223372036854775807, \"z\": 1.5, \"name\": \"one\"}]");
+    try (JsonParser parser = new JakartaJsonParserAdapter(new JsonNodeJsonParser(jsonNode))) {
+      Point[] points = OBJECT_MAPPER.readValue(parser, Point[].class);
+      assertEquals(List.of(new Point(1, Long.MAX_VALUE, 1.5d, "one")), List.of(points));
+    }
+    try (JsonParser parser = new JakartaJsonParserAdapter(Json.createParser(new StringReader(SAMPLE_JSON)))) {
+      Sample sample = OBJECT_MAPPER.readValue(parser, Sample.class);
+      assertEquals(List.of("string", -2, Map.of()), sample.key2());
+      assertEquals(new BigDecimal("9223372036854775808"), sample.key3());
+    }
+  }
+
+  @Test
+  void skipChildren() throws IOException {
+    try (JsonParser parser = new JakartaJsonParserAdapter(Json.createParser(new StringReader(SAMPLE_JSON)))) {
+      assertSame(JsonToken.START_OBJECT, parser.nextToken());
+      assertSame(JsonToken.FIELD_NAME, parser.nextToken());
+      assertEquals("key1", parser.currentName());
+      assertSame(JsonToken.START_ARRAY, parser.nextToken());
+      assertEquals("key1", parser.currentName());
+      parser.skipChildren();
+      assertSame(JsonToken.END_ARRAY, parser.currentToken());
+      assertSame(JsonToken.FIELD_NAME, parser.nextToken());
+      assertEquals("key2", parser.currentName());
+    }
+    try (JsonParser parser = new JakartaJsonParserAdapter(new EventsOnlyParser(Json.createParser(new StringReader(SAMPLE_JSON))))) {
+      assertSame(JsonToken.START_OBJECT, parser.nextToken());
+      assertSame(JsonToken.FIELD_NAME, parser.nextToken());
+      assertSame(JsonToken.START_ARRAY, parser.nextToken());
+      parser.skipChildren();
+      assertSame(JsonToken.END_ARRAY, parser.currentToken());
+      assertSame(JsonToken.FIELD_NAME, parser.nextToken());
+      assertEquals("key2", parser.currentName());
+    }
+  }
+
+  @Test
+  void numbers() throws IOException {
+    try (JsonParser parser = new JakartaJsonParserAdapter(Json.createParser(new StringReader("[1, 2147483648, 9223372036854775808, 1.5]")))) {
+      assertSame(JsonToken.START_ARRAY, parser.nextToken());
+
+      assertSame(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+      assertSame(NumberType.INT, parser.getNumberType());
+      assertEquals(1, parser.getIntValue());
+
+      assertSame(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+      assertSame(NumberType.LONG, parser.getNumberType());
+      assertEquals(2147483648L, parser.getLongValue());
+      assertThrows(InputCoercionException.class, parser::getIntValue);
+
+      assertSame(JsonToken.VALUE_NUMBER_INT, parser.nextToken());
+      assertSame(NumberType.BIG_INTEGER, parser.getNumberType());
+      assertThrows(InputCoercionException.class, parser::getLongValue);
+
+      assertSame(JsonToken.VALUE_NUMBER_FLOAT, parser.nextToken());
+      assertSame(NumberType.BIG_DECIMAL, parser.getNumberType());
+      assertEquals(1.5d, parser.getDoubleValue());
+      assertEquals(1, parser.getIntValue());
+
+      assertSame(JsonToken.END_ARRAY, parser.nextToken());
+      assertSame(null, parser.nextToken());
+    }
+  }
+
+  /**
+   * Implements only the mandatory methods, {@link #skipArray()} and
+   * {@link #skipObject()} are not supported.
+   */
+  static final class EventsOnlyParser implements jakarta.json.stream.JsonParser {
+
+    private final jakarta.json.stream.JsonParser delegate;
+
+    EventsOnlyParser(jakarta.json.stream.JsonParser delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.delegate.hasNext();
+    }
+
+    @Override
+    public Event next() {
+      return this.delegate.next();
+    }
+
+    @Override
+    public String getString() {
+      return this.delegate.getString();
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+      return this.delegate.isIntegralNumber();
+    }
+
+    @Override
+    public int getInt() {
+      return this.delegate.getInt();
+    }
+
+    @Override
+    public long getLong() {
+      return this.delegate.getLong();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+      return this.delegate.getBigDecimal();
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+      return this.delegate.getLocation();
+    }
+
+    @Override
+    public void close() {
+      this.delegate.close();
+    }
+
+  }
+
+}
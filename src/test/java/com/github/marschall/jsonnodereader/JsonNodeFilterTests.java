@@ -0,0 +1,94 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.json.JsonException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+class JsonNodeFilterTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final String SAMPLE_JSON = "{\"id\":1,\"name\":\"n\",\"meta\":{\"a\":1,\"b\":[1,2]},"
+          + "\"items\":[{\"id\":10,\"name\":\"x\",\"tags\":[\"t\"]},{\"id\":11,\"name\":\"y\"},{\"id\":12}],\"a.b\":true}";
+
+  private static void assertProjection(String expected, JsonNodeFilter filter) throws JacksonException {
+    JsonNode root = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNode projection = filter.apply(root);
+    assertEquals(OBJECT_MAPPER.readTree(expected), projection);
+    assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), root);
+  }
+
+  @Test
+  void pointers() throws JacksonException {
+    assertProjection("{\"name\":\"n\",\"meta\":{\"b\":[1,2]}}", JsonNodeFilter.ofPointers(List.of("/name", "/meta/b")));
+    assertProjection("{\"items\":[{\"id\":10},{\"name\":\"y\"}]}", JsonNodeFilter.ofPointers(List.of("/items/1/name", "/items/0/id", "/items/5")));
+    assertProjection("{\"a.b\":true}", JsonNodeFilter.ofPointers(List.of("/a.b")));
+    assertProjection("{}", JsonNodeFilter.ofPointers(List.of("/missing", "/id/x", "/items/-")));
+    assertProjection(SAMPLE_JSON, JsonNodeFilter.ofPointers(List.of("", "/id")));
+    assertThrows(JsonException.class, () -> JsonNodeFilter.ofPointers(List.of("id")));
+  }
+
+  @Test
+  void keyPaths() throws JacksonException {
+    assertProjection("{\"items\":[{\"name\":\"x\"},{\"name\":\"y\"}]}", JsonNodeFilter.ofKeyPaths(List.of("items.*.name")));
+    assertProjection("{\"items\":[{\"id\":10,\"name\":\"x\"},{\"name\":\"y\"}]}", JsonNodeFilter.ofKeyPaths(List.of("items.*.name", "items.0.id")));
+    assertProjection("{\"meta\":{\"a\":1,\"b\":[1,2]}}", JsonNodeFilter.ofKeyPaths(List.of("meta.*")));
+    assertProjection("{\"id\":1,\"meta\":{\"a\":1},\"items\":[{\"id\":10},{\"id\":11},{\"id\":12}]}",
+            JsonNodeFilter.ofKeyPaths(List.of("*.a", "id", "items.*.id")));
+    assertProjection("{\"items\":[{\"tags\":[\"t\"]}]}", JsonNodeFilter.ofKeyPaths(List.of("*.*.tags.0")));
+    assertProjection(SAMPLE_JSON, JsonNodeFilter.ofKeyPaths(List.of("")));
+  }
+
+  @Test
+  void sharesMatches() throws JacksonException {
+    JsonNode root = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+
+    JsonNode projection = JsonNodeFilter.ofKeyPaths(List.of("meta", "items.1")).apply(root);
+
+    assertSame(root.get("meta"), projection.get("meta"));
+    assertSame(root.get("items").get(1), projection.get("items").get(0));
+    assertSame(root, JsonNodeFilter.ofPointers(List.of("")).apply(root));
+  }
+
+  @Test
+  void parser() throws JacksonException {
+    JsonNode root = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNodeFilter filter = JsonNodeFilter.ofKeyPaths(List.of("id", "items.*.name"));
+    List<Event> events = new ArrayList<>();
+    List<String> strings = new ArrayList<>();
+
+    try (JsonParser parser = new JsonNodeJsonProvider().createParser(root, filter)) {
+      while (parser.hasNext()) {
+        Event event = parser.next();
+        events.add(event);
+        if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+          strings.add(parser.getString());
+        }
+      }
+    }
+
+    assertEquals(List.of(Event.START_OBJECT, Event.KEY_NAME, Event.VALUE_NUMBER, Event.KEY_NAME, Event.START_ARRAY,
+            Event.START_OBJECT, Event.KEY_NAME, Event.VALUE_STRING, Event.END_OBJECT,
+            Event.START_OBJECT, Event.KEY_NAME, Event.VALUE_STRING, Event.END_OBJECT,
+            Event.END_ARRAY, Event.END_OBJECT), events);
+    assertEquals(List.of("id", "items", "name", "x", "name", "y"), strings);
+  }
+
+}
@@ -0,0 +1,176 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.spi.JsonProvider;
+
+class JsonNodeJsonBuilderTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final JsonProvider PARSSON = JsonProvider.provider();
+
+  private static final String OBJECT_JSON = "{\"a\":{\"b\":[1,2]},\"c\":\"d\",\"e\":true,\"f\":null}";
+
+  private static final String ARRAY_JSON = "[{\"a\":1},\"b\",2,[3]]";
+
+  private static void assertSameAsDefaultObject(Consumer<JsonObjectBuilder> operations) throws JacksonException {
+    JsonNode base = OBJECT_MAPPER.readTree(OBJECT_JSON);
+    JsonObject view = JsonNodeValues.asJsonObject(base);
+
+    JsonObjectBuilder expectedBuilder = PARSSON.createObjectBuilder(view);
+    operations.accept(expectedBuilder);
+    JsonObject expected = expectedBuilder.build();
+
+    JsonObjectBuilder actualBuilder = new JsonNodeJsonObjectBuilder(view);
+    operations.accept(actualBuilder);
+    JsonObject actual = actualBuilder.build();
+
+    assertEquals(expected, actual);
+    assertEquals(actual, expected);
+    assertEquals(expected.hashCode(), actual.hashCode());
+    assertEquals(expected.toString(), actual.toString());
+    assertEquals(expected.keySet(), actual.keySet());
+    assertEquals(OBJECT_MAPPER.readTree(OBJECT_JSON), base);
+  }
+
+  private static void assertSameAsDefaultArray(Consumer<JsonArrayBuilder> operations) throws JacksonException {
+    JsonNode base = OBJECT_MAPPER.readTree(ARRAY_JSON);
+    JsonArray view = JsonNodeValues.asJsonArray(base);
+
+    JsonArrayBuilder expectedBuilder = PARSSON.createArrayBuilder(view);
+    operations.accept(expectedBuilder);
+    JsonArray expected = expectedBuilder.build();
+
+    JsonArrayBuilder actualBuilder = new JsonNodeJsonArrayBuilder(view);
+    operations.accept(actualBuilder);
+    JsonArray actual = actualBuilder.build();
+
+    assertEquals(expected, actual);
+    assertEquals(actual, expected);
+    assertEquals(expected.hashCode(), actual.hashCode());
+    assertEquals(expected.toString(), actual.toString());
+    assertEquals(OBJECT_MAPPER.readTree(ARRAY_JSON), base);
+  }
+
+  @Test
+  void objectBuilderSameAsDefault() throws JacksonException {
+    assertSameAsDefaultObject(builder -> {
+      // unchanged
+    });
+    assertSameAsDefaultObject(builder -> builder.add("x", 1).add("y", "z"));
+    assertSameAsDefaultObject(builder -> builder.add("c", 2L).addNull("e"));
+    assertSameAsDefaultObject(builder -> builder.remove("a").remove("x"));
+    assertSameAsDefaultObject(builder -> builder.remove("c").add("c", 1.5d).add("c", BigDecimal.TEN));
+    assertSameAsDefaultObject(builder -> builder.add("x", true).remove("x").add("x", BigInteger.TWO));
+    assertSameAsDefaultObject(builder -> builder.add("a", PARSSON.createObjectBuilder().add("g", 1))
+            .add("h", PARSSON.createArrayBuilder().add(false)));
+    assertSameAsDefaultObject(builder -> builder.addAll(PARSSON.createObjectBuilder().add("c", "x").add("i", 2)));
+  }
+
+  @Test
+  void arrayBuilderSameAsDefault() throws JacksonException {
+    assertSameAsDefaultArray(builder -> {
+      // unchanged
+    });
+    assertSameAsDefaultArray(builder -> builder.add(4).add("x").addNull());
+    assertSameAsDefaultArray(builder -> builder.set(1, 1.5d).setNull(3).set(0, BigInteger.ONE));
+    assertSameAsDefaultArray(builder -> builder.add(5).add(4, "y").set(5, true).remove(4));
+    assertSameAsDefaultArray(builder -> builder.set(2, "x").add(1, 10L).remove(0));
+    assertSameAsDefaultArray(builder -> builder.remove(3).remove(0).add(0, BigDecimal.ONE));
+    assertSameAsDefaultArray(builder -> builder.add(PARSSON.createObjectBuilder().add("g", 1))
+            .set(0, PARSSON.createArrayBuilder().add(false)));
+    assertSameAsDefaultArray(builder -> builder.addAll(PARSSON.createArrayBuilder().add(1).add("x")));
+  }
+
+  @Test
+  void objectBuilderSharesBase() throws JacksonException {
+    JsonNode base = OBJECT_MAPPER.readTree(OBJECT_JSON);
+    JsonObject view = JsonNodeValues.asJsonObject(base);
+
+    JsonObject built = new JsonNodeJsonObjectBuilder(view)
+            .add("c", "x")
+            .add("g", 1)
+            .build();
+
+    assertInstanceOf(JsonNodeValue.class, built);
+    JsonNode builtNode = ((JsonNodeValue) built).getJsonNode();
+    assertSame(base.get("a"), builtNode.get("a"));
+    assertEquals("x", built.getString("c"));
+    assertEquals(5, built.size());
+    assertEquals("d", base.get("c").textValue());
+    assertThrows(UnsupportedOperationException.class, () -> built.put("z", built));
+  }
+
+  @Test
+  void arrayBuilderSharesBase() throws JacksonException {
+    JsonNode base = OBJECT_MAPPER.readTree(ARRAY_JSON);
+    JsonArray view = JsonNodeValues.asJsonArray(base);
+
+    JsonArray built = new JsonNodeJsonArrayBuilder(view)
+            .set(1, "x")
+            .add(4)
+            .build();
+
+    assertInstanceOf(JsonNodeValue.class, built);
+    JsonNode builtNode = ((JsonNodeValue) built).getJsonNode();
+    assertSame(base.get(0), builtNode.get(0));
+    assertSame(base.get(3), builtNode.get(3));
+    assertEquals("x", built.getString(1));
+    assertEquals(5, built.size());
+    assertEquals("b", base.get(1).textValue());
+  }
+
+  @Test
+  void buildResets() throws JacksonException {
+    JsonObjectBuilder objectBuilder = new JsonNodeJsonObjectBuilder(JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree(OBJECT_JSON)));
+    JsonObject first = objectBuilder.add("x", 1).build();
+    JsonObject second = objectBuilder.add("y", 2).build();
+
+    assertEquals(5, first.size());
+    assertEquals(PARSSON.createObjectBuilder().add("y", 2).build(), second);
+
+    JsonArrayBuilder arrayBuilder = new JsonNodeJsonArrayBuilder(JsonNodeValues.asJsonArray(OBJECT_MAPPER.readTree(ARRAY_JSON)));
+    JsonArray firstArray = arrayBuilder.add(1).build();
+    JsonArray secondArray = arrayBuilder.add(2).build();
+
+    assertEquals(5, firstArray.size());
+    assertEquals(PARSSON.createArrayBuilder().add(2).build(), secondArray);
+  }
+
+  @Test
+  void invalidArguments() throws JacksonException {
+    JsonObjectBuilder objectBuilder = new JsonNodeJsonObjectBuilder(JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree(OBJECT_JSON)));
+    assertThrows(NullPointerException.class, () -> objectBuilder.add(null, 1));
+    assertThrows(NullPointerException.class, () -> objectBuilder.add("x", (String) null));
+    assertThrows(NumberFormatException.class, () -> objectBuilder.add("x", Double.NaN));
+
+    JsonArrayBuilder arrayBuilder = new JsonNodeJsonArrayBuilder(JsonNodeValues.asJsonArray(OBJECT_MAPPER.readTree(ARRAY_JSON)));
+    assertThrows(IndexOutOfBoundsException.class, () -> arrayBuilder.set(4, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> arrayBuilder.add(5, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> arrayBuilder.remove(-1));
+    assertThrows(NumberFormatException.class, () -> arrayBuilder.add(Double.POSITIVE_INFINITY));
+  }
+
+}
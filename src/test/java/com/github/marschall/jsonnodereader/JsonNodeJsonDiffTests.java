@@ -0,0 +1,196 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+class JsonNodeJsonDiffTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final JsonProvider PARSSON = JsonProvider.provider();
+
+  private static final int RANDOM_TREES = 300;
+
+  private static JsonValue readValue(String json) {
+    try (JsonReader reader = PARSSON.createReader(new StringReader(json))) {
+      return reader.readValue();
+    }
+  }
+
+  static Stream<Arguments> documents() {
+    return Stream.of(
+        Arguments.of("{\"a\":1}", "{\"a\":1}"),
+        Arguments.of("{\"a\":1}", "{\"a\":2}"),
+        Arguments.of("{\"a\":1,\"b\":2}", "{\"b\":2,\"c\":3}"),
+        Arguments.of("{\"a\":{\"b\":[1,2]}}", "{\"a\":{\"b\":[1,2,3]}}"),
+        Arguments.of("{\"a/b\":1,\"c~d\":2}", "{\"a/b\":3,\"e~/\":4}"),
+        Arguments.of("{\"a\":[1]}", "{\"a\":{\"0\":1}}"),
+        Arguments.of("[1,2,3,4,5]", "[1,2,4,5]"),
+        Arguments.of("[1,2,3,4,5]", "[0,1,2,3,4,5,6]"),
+        Arguments.of("[1,2,3,4,5]", "[5,4,3,2,1]"),
+        Arguments.of("[1,2,3]", "[]"),
+        Arguments.of("[]", "[1,2,3]"),
+        Arguments.of("[{\"id\":1},{\"id\":2},{\"id\":3}]", "[{\"id\":1},{\"id\":2,\"x\":true},{\"id\":3}]"),
+        Arguments.of("[1,1,2,2,3,3]", "[3,1,2,1,2,3]"),
+        Arguments.of("[1,2]", "[1,2.5]"),
+        Arguments.of("{\"a\":1}", "[1]"),
+        Arguments.of("\"a\"", "\"b\""),
+        Arguments.of("{\"a\":null}", "{}"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("documents")
+  void diff(String sourceJson, String targetJson) throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(sourceJson);
+    JsonNode target = OBJECT_MAPPER.readTree(targetJson);
+
+    JsonNodeJsonPatch patch = JsonNodeJsonDiff.diff(source, target);
+
+    assertEquals(target, patch.apply(source));
+    JsonValue expected = readValue(targetJson);
+    if (expected instanceof JsonStructure && readValue(sourceJson) instanceof JsonStructure sourceStructure) {
+      // applied by another provider
+      assertEquals(expected, PARSSON.createPatch(patch.toJsonArray()).apply(sourceStructure));
+    }
+    if (sourceJson.equals(targetJson)) {
+      assertTrue(patch.toJsonArray().isEmpty());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("documents")
+  void mergeDiff(String sourceJson, String targetJson) throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(sourceJson);
+    JsonNode target = OBJECT_MAPPER.readTree(targetJson);
+
+    JsonNodeJsonMergePatch patch = JsonNodeJsonDiff.mergeDiff(source, target);
+
+    assertEquals(PARSSON.createMergeDiff(readValue(sourceJson), readValue(targetJson)).toJsonValue(), patch.toJsonValue());
+    if (!sourceJson.contains("null")) {
+      assertEquals(target, patch.apply(source));
+    }
+  }
+
+  @Test
+  void minimalArrayChanges() throws JacksonException {
+    ArrayNode source = JsonNodeFactory.instance.arrayNode();
+    for (int i = 0; i < 1_000; i++) {
+      source.addObject().put("id", i);
+    }
+    ArrayNode target = source.deepCopy();
+    target.insert(500, JsonNodeFactory.instance.objectNode().put("id", -1));
+    target.remove(100);
+    ((ObjectNode) target.get(800)).put("changed", true);
+
+    JsonArray operations = JsonNodeJsonDiff.diff(source, target).toJsonArray();
+
+    assertEquals(readValue("[{\"op\":\"remove\",\"path\":\"/100\"},"
+            + "{\"op\":\"add\",\"path\":\"/499\",\"value\":{\"id\":-1}},"
+            + "{\"op\":\"add\",\"path\":\"/800/changed\",\"value\":true}]"), operations);
+  }
+
+  @Test
+  void randomTrees() {
+    Random random = new Random(0x5EED);
+    for (int i = 0; i < RANDOM_TREES; i++) {
+      JsonNode source = randomNode(random, 3);
+      JsonNode target = mutate(source.deepCopy(), random, 3);
+
+      JsonNodeJsonPatch patch = JsonNodeJsonDiff.diff(source, target);
+      JsonNode patched = patch.apply(source);
+      assertEquals(target, patched, () -> source + " " + target + " " + patch);
+    }
+  }
+
+  private static JsonNode randomNode(Random random, int depth) {
+    int kind = random.nextInt(depth > 0 ? 6 : 4);
+    return switch (kind) {
+      case 0 -> JsonNodeFactory.instance.numberNode(random.nextInt(5));
+      case 1 -> JsonNodeFactory.instance.textNode(Character.toString('a' + random.nextInt(3)));
+      case 2 -> JsonNodeFactory.instance.booleanNode(random.nextBoolean());
+      case 3 -> JsonNodeFactory.instance.nullNode();
+      case 4 -> {
+        ArrayNode array = JsonNodeFactory.instance.arrayNode();
+        int size = random.nextInt(8);
+        for (int i = 0; i < size; i++) {
+          array.add(randomNode(random, depth - 1));
+        }
+        yield array;
+      }
+      default -> {
+        ObjectNode object = JsonNodeFactory.instance.objectNode();
+        int size = random.nextInt(5);
+        for (int i = 0; i < size; i++) {
+          object.set(Character.toString('a' + random.nextInt(6)), randomNode(random, depth - 1));
+        }
+        yield object;
+      }
+    };
+  }
+
+  private static JsonNode mutate(JsonNode node, Random random, int depth) {
+    if (random.nextInt(8) == 0) {
+      return randomNode(random, depth);
+    }
+    if (node.isArray()) {
+      ArrayNode array = (ArrayNode) node;
+      int changes = random.nextInt(3);
+      for (int i = 0; i < changes; i++) {
+        int operation = random.nextInt(3);
+        if (operation == 0 || array.isEmpty()) {
+          array.insert(random.nextInt(array.size() + 1), randomNode(random, depth - 1));
+        } else if (operation == 1) {
+          array.remove(random.nextInt(array.size()));
+        } else {
+          int index = random.nextInt(array.size());
+          array.set(index, mutate(array.get(index), random, depth - 1));
+        }
+      }
+    } else if (node.isObject()) {
+      ObjectNode object = (ObjectNode) node;
+      List<String> names = new ArrayList<>();
+      object.fieldNames().forEachRemaining(names::add);
+      for (String name : names) {
+        int operation = random.nextInt(4);
+        if (operation == 0) {
+          object.remove(name);
+        } else if (operation == 1) {
+          object.set(name, mutate(object.get(name), random, depth - 1));
+        }
+      }
+      if (random.nextBoolean()) {
+        object.set(Character.toString('a' + random.nextInt(6)), randomNode(random, depth - 1));
+      }
+    }
+    return node;
+  }
+
+}
@@ -0,0 +1,98 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+
+class JsonNodeJsonGeneratorTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final String SAMPLE_JSON = "{\"key1\":[1,1234567890,1.10,true,false,null],\"key2\":[\"string\",-2,{}],\"key3\":9223372036854775808}";
+
+  @Test
+  void generate() throws JacksonException {
+    JsonNodeJsonGenerator generator = new JsonNodeJsonGenerator();
+    try (JsonGenerator jsonGenerator = generator) {
+      jsonGenerator.writeStartObject()
+        .writeStartArray("key1")
+          .write(1)
+          .write(1234567890)
+          .write(new BigDecimal("1.10"))
+          .write(true)
+          .write(false)
+          .writeNull()
+        .writeEnd()
+        .writeKey("key2")
+        .writeStartArray()
+          .write("string")
+          .write(-2)
+          .writeStartObject()
+          .writeEnd()
+        .writeEnd()
+        .write("key3", new BigInteger("9223372036854775808"))
+      .writeEnd();
+    }
+    assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), generator.getResult());
+  }
+
+  @Test
+  void writeJsonNodeValue() throws JacksonException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNodeJsonGenerator generator = new JsonNodeJsonGenerator();
+    generator.writeStartArray()
+      .write(JsonNodeValues.adapt(jsonNode))
+      .writeEnd()
+      .close();
+    assertSame(jsonNode, generator.getResult().get(0));
+  }
+
+  @Test
+  void writeJsonValue() throws JacksonException {
+    JsonValue jsonValue;
+    try (JsonReader reader = Json.createReader(new StringReader(SAMPLE_JSON))) {
+      jsonValue = reader.readValue();
+    }
+    JsonNodeJsonGenerator generator = new JsonNodeJsonGenerator();
+    generator.write(jsonValue).close();
+    assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), generator.getResult());
+  }
+
+  @Test
+  void invalidState() {
+    JsonNodeJsonGenerator generator = new JsonNodeJsonGenerator();
+    assertThrows(JsonGenerationException.class, generator::writeEnd);
+    assertThrows(JsonGenerationException.class, () -> generator.writeKey("key"));
+    generator.writeStartObject();
+    assertThrows(JsonGenerationException.class, () -> generator.write(1));
+    assertThrows(IllegalStateException.class, generator::getResult);
+    assertThrows(JsonGenerationException.class, generator::close);
+    generator.writeKey("key");
+    assertThrows(JsonGenerationException.class, () -> generator.writeKey("key"));
+    assertThrows(JsonGenerationException.class, generator::writeEnd);
+    assertThrows(NumberFormatException.class, () -> generator.write(Double.NaN));
+    generator.write(1).writeEnd();
+    assertThrows(JsonGenerationException.class, () -> generator.write(1));
+  }
+
+}
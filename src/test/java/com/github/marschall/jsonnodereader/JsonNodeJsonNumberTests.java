@@ -0,0 +1,108 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ShortNode;
+
+import jakarta.json.JsonNumber;
+import jakarta.json.spi.JsonProvider;
+
+class JsonNodeJsonNumberTests {
+
+  private static final int RANDOM_NODES = 2_000;
+
+  private static final JsonProvider PARSSON = JsonProvider.provider();
+
+  private static List<JsonNode> numberNodes() {
+    List<JsonNode> nodes = new ArrayList<>();
+    long[] longs = {0L, 1L, -1L, 10L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+        1L + Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1L};
+    for (long value : longs) {
+      nodes.add(LongNode.valueOf(value));
+      nodes.add(BigIntegerNode.valueOf(BigInteger.valueOf(value)));
+      if (value == (int) value) {
+        nodes.add(IntNode.valueOf((int) value));
+      }
+      if (value == (short) value) {
+        nodes.add(ShortNode.valueOf((short) value));
+      }
+    }
+    nodes.add(BigIntegerNode.valueOf(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)));
+    nodes.add(BigIntegerNode.valueOf(BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE)));
+    double[] doubles = {0.0d, -0.0d, 1.0d, -1.0d, 0.5d, 9_999_999.0d, 10_000_000.0d, -10_000_000.0d,
+        1.0E-3d, 1.0E-4d, 1.0E20d, Double.MAX_VALUE, Double.MIN_VALUE};
+    for (double value : doubles) {
+      nodes.add(DoubleNode.valueOf(value));
+      if (!Float.isInfinite((float) value)) {
+        nodes.add(FloatNode.valueOf((float) value));
+      }
+      nodes.add(DecimalNode.valueOf(BigDecimal.valueOf(value)));
+    }
+
+    Random random = new Random(0x5EED);
+    for (int i = 0; i < RANDOM_NODES; i++) {
+      nodes.add(switch (random.nextInt(8)) {
+        case 0 -> IntNode.valueOf(random.nextInt());
+        case 1 -> IntNode.valueOf(random.nextInt(200) - 100);
+        case 2 -> LongNode.valueOf(random.nextLong());
+        case 3 -> ShortNode.valueOf((short) random.nextInt());
+        case 4 -> BigIntegerNode.valueOf(new BigInteger(1 + random.nextInt(100), random).subtract(BigInteger.ONE.shiftLeft(40)));
+        case 5 -> DoubleNode.valueOf(random.nextInt(200) - 100);
+        case 6 -> DoubleNode.valueOf(random.nextGaussian() * Math.pow(10.0d, random.nextInt(20) - 5));
+        default -> FloatNode.valueOf((float) (random.nextInt(20_000_000) - 10_000_000));
+      });
+    }
+    return nodes;
+  }
+
+  @Test
+  void sameAsBigDecimal() {
+    List<JsonNode> nodes = numberNodes();
+    for (JsonNode node : nodes) {
+      JsonNumber actual = (JsonNumber) JsonNodeValues.adapt(node);
+      JsonNumber expected = PARSSON.createValue(node.decimalValue());
+      String message = node.getClass().getSimpleName() + " " + node;
+      assertEquals(expected.hashCode(), actual.hashCode(), message);
+      assertEquals(expected.toString(), actual.toString(), message);
+      assertEquals(expected, actual, message);
+      assertEquals(actual, expected, message);
+      assertEquals(expected.hashCode(), JsonNodeAdapter.hashCode(node), message);
+    }
+  }
+
+  @Test
+  void equalsSameAsBigDecimal() {
+    List<JsonNode> nodes = numberNodes().subList(0, 300);
+    for (JsonNode left : nodes) {
+      JsonNumber leftNumber = (JsonNumber) JsonNodeValues.adapt(left);
+      for (JsonNode right : nodes) {
+        JsonNumber rightNumber = (JsonNumber) JsonNodeValues.adapt(right);
+        boolean expected = left.decimalValue().equals(right.decimalValue());
+        Supplier<String> message = () -> left.getClass().getSimpleName() + " " + left + " " + right.getClass().getSimpleName() + " " + right;
+        assertEquals(expected, leftNumber.equals(rightNumber), message);
+        assertEquals(expected, JsonNodeAdapter.valueEquals(left, rightNumber), message);
+        assertEquals(expected, leftNumber.equals(PARSSON.createValue(right.decimalValue())), message);
+        if (right.isIntegralNumber() && right.canConvertToLong()) {
+          assertEquals(expected, leftNumber.equals(PARSSON.createValue(right.longValue())), message);
+        }
+      }
+    }
+  }
+
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -16,6 +17,9 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -24,14 +28,23 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opentest4j.TestAbortedException;
 
 import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -51,6 +64,7 @@ import jakarta.json.stream.JsonLocation;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 import jakarta.json.stream.JsonParserFactory;
+import jakarta.json.stream.JsonParsingException;
 
 class JsonNodeJsonParserTests {
 
@@ -60,6 +74,8 @@ class JsonNodeJsonParserTests {
           .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
           .build();
 
+  private static final JsonNodeJsonParserPool PARSER_POOL = new JsonNodeJsonParserPool();
+
   private static final String SAMPLE_JSON = "{\"key1\":[1,1234567890,1.1,true,false,null],\"key2\":[\"string\",-2]}";
 
   private static final String NESTED_JSON_INPUT = "[{\"key1\":[1]},2,[{\"key2\":3}],4]";
@@ -88,10 +104,271 @@ class JsonNodeJsonParserTests {
     return List.of(
             Arguments.of((StringParserFactory) JsonNodeJsonParserTests::defaultParser),
             Arguments.of((StringParserFactory) JsonNodeJsonParserTests::jsonStructureParser),
-            Arguments.of((StringParserFactory) JsonNodeJsonParserTests::jsonNodeJsonParser)
+            Arguments.of((StringParserFactory) JsonNodeJsonParserTests::jsonNodeJsonParser),
+            Arguments.of((StringParserFactory) JsonNodeJsonParserTests::pooledJsonNodeJsonParser),
+            Arguments.of((StringParserFactory) JsonNodeJsonParserTests::jacksonJsonParser),
+            Arguments.of((StringParserFactory) JsonNodeJsonParserTests::nonBlockingJacksonJsonParser)
             );
   }
 
+  @Test
+  void pooledParserIsReused() throws IOException {
+    JsonNodeJsonParserPool pool = new JsonNodeJsonParserPool(1);
+    JsonNodeJsonParser first;
+    try (JsonNodeJsonParser parser = pool.createParser(OBJECT_MAPPER.readTree(LIST_OF_NUMBERS))) {
+      first = parser;
+      assertSame(Event.START_ARRAY, parser.next());
+      assertSame(Event.VALUE_NUMBER, parser.next());
+    }
+    // closing twice must not return the parser twice
+    first.close();
+    // a stale reference must not take the parser back from the pool
+    JsonNode stale = OBJECT_MAPPER.readTree(LIST_OF_NUMBERS);
+    assertThrows(IllegalStateException.class, () -> first.reset(stale));
+    try (JsonNodeJsonParser parser = pool.createParser(OBJECT_MAPPER.readTree(SINGLETON_OBJECT))) {
+      assertSame(first, parser);
+      assertSame(Event.START_OBJECT, parser.next());
+      assertSame(Event.KEY_NAME, parser.next());
+      assertEquals("key", parser.getString());
+      try (JsonNodeJsonParser second = pool.createParser(OBJECT_MAPPER.readTree(LIST_OF_NUMBERS))) {
+        assertNotSame(first, second);
+      }
+    }
+  }
+
+  @Test
+  void deeplyNested() throws IOException {
+    int depth = 100;
+    String json = "[{\"key\":".repeat(depth) + "1" + "}]".repeat(depth);
+    try (JsonParser parser = new JsonNodeJsonParser(OBJECT_MAPPER.readTree(json))) {
+      for (int i = 0; i < depth; i++) {
+        assertSame(Event.START_ARRAY, parser.next());
+        assertSame(Event.START_OBJECT, parser.next());
+        assertSame(Event.KEY_NAME, parser.next());
+        assertEquals(Json.createValue("key"), parser.getValue());
+      }
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertEquals(1, parser.getInt());
+      for (int i = 0; i < depth; i++) {
+        assertSame(Event.END_OBJECT, parser.next());
+        assertSame(Event.END_ARRAY, parser.next());
+      }
+      assertFalse(parser.hasNext());
+    }
+  }
+
+  @Test
+  void parallelArrayStream() throws IOException {
+    String json = IntStream.range(0, 1000)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.joining(",", "[[", "], 1]"));
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(OBJECT_MAPPER.readTree(json))) {
+      assertSame(Event.START_ARRAY, parser.next());
+      assertSame(Event.START_ARRAY, parser.next());
+      long sum = parser.getParallelArrayStream()
+              .mapToLong(value -> ((JsonNumber) value).longValue())
+              .sum();
+      assertEquals(999L * 1000L / 2L, sum);
+      assertSame(Event.END_ARRAY, parser.currentEvent());
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertSame(Event.END_ARRAY, parser.next());
+      assertFalse(parser.hasNext());
+    }
+  }
+
+  @Test
+  void spliterator() throws IOException {
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(OBJECT_MAPPER.readTree("[1, 2, 3, 4, 5]"))) {
+      assertSame(Event.START_ARRAY, parser.next());
+      JsonArray array = parser.getArray();
+      Spliterator<JsonValue> spliterator = array.spliterator();
+      assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE));
+      assertEquals(5L, spliterator.estimateSize());
+      Spliterator<JsonValue> prefix = spliterator.trySplit();
+      assertEquals(2L, prefix.estimateSize());
+      assertEquals(3L, spliterator.estimateSize());
+      assertTrue(prefix.tryAdvance(value -> assertEquals(Json.createValue(1), value)));
+
+      Spliterator<JsonValue> subListSpliterator = array.subList(1, 4).spliterator();
+      assertEquals(3L, subListSpliterator.getExactSizeIfKnown());
+      assertEquals(List.of(Json.createValue(2), Json.createValue(3), Json.createValue(4)),
+              StreamSupport.stream(subListSpliterator, true).toList());
+    }
+  }
+
+  @Test
+  void primitiveNumbers() throws IOException {
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(OBJECT_MAPPER.readTree("[1, 2147483648, 1.5, 18446744073709551616]"))) {
+      assertSame(Event.START_ARRAY, parser.next());
+      assertThrows(IllegalStateException.class, parser::getDouble);
+      assertThrows(IllegalStateException.class, parser::getNumberKind);
+
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertSame(NumberType.INT, parser.getNumberKind());
+      assertEquals(1.0d, parser.getDouble());
+      assertEquals(1.0f, parser.getFloat());
+
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertSame(NumberType.LONG, parser.getNumberKind());
+      assertEquals(2147483648.0d, parser.getDouble());
+
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertSame(NumberType.BIG_DECIMAL, parser.getNumberKind());
+      assertEquals(1.5d, parser.getDouble());
+      assertEquals(1.5f, parser.getFloat());
+
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertSame(NumberType.BIG_INTEGER, parser.getNumberKind());
+      assertEquals(18446744073709551616.0d, parser.getDouble());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("parsers")
+  void primitiveArrays(StringParserFactory stringParserFactory) throws IOException {
+    String json = "[[1,2.5,-3],[\"4\",true,null,{\"a\":1},[5],false],[1.5,2],[],[1,\"x\"]]";
+    try (JsonParser jsonParser = stringParserFactory.parse(json)) {
+      if (!(jsonParser instanceof PrimitiveJsonParser parser)) {
+        throw new TestAbortedException();
+      }
+      assertSame(Event.START_ARRAY, parser.next());
+
+      assertSame(Event.START_ARRAY, parser.next());
+      assertArrayEquals(new int[] {1, 2, -3}, parser.getIntArray(NumberConversion.STRICT));
+      assertSame(Event.END_ARRAY, parser.currentEvent());
+
+      assertSame(Event.START_ARRAY, parser.next());
+      assertArrayEquals(new long[] {4L, 1L, 0L, 0L, 0L, 0L}, parser.getLongArray(NumberConversion.LENIENT));
+
+      assertSame(Event.START_ARRAY, parser.next());
+      double[] buffer = new double[4];
+      assertEquals(2, parser.getDoubleArray(NumberConversion.STRICT, buffer, 1));
+      assertArrayEquals(new double[] {0.0d, 1.5d, 2.0d, 0.0d}, buffer);
+
+      assertSame(Event.START_ARRAY, parser.next());
+      assertArrayEquals(new int[0], parser.getIntArray(NumberConversion.STRICT));
+      assertThrows(IllegalStateException.class, () -> parser.getIntArray(NumberConversion.STRICT));
+
+      assertSame(Event.START_ARRAY, parser.next());
+      assertThrows(ClassCastException.class, () -> parser.getDoubleArray(NumberConversion.STRICT));
+    }
+  }
+
+  @Test
+  void failedPrimitiveArrayRead() throws IOException {
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(OBJECT_MAPPER.readTree("[[1,\"x\"],[1,2]]"))) {
+      assertSame(Event.START_ARRAY, parser.next());
+      assertSame(Event.START_ARRAY, parser.next());
+      assertThrows(ClassCastException.class, () -> parser.getIntArray(NumberConversion.STRICT));
+      assertSame(Event.START_ARRAY, parser.currentEvent());
+      // fall back to reading events
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertEquals(1, parser.getInt());
+      assertSame(Event.VALUE_STRING, parser.next());
+      assertSame(Event.END_ARRAY, parser.next());
+
+      assertSame(Event.START_ARRAY, parser.next());
+      assertThrows(IndexOutOfBoundsException.class, () -> parser.getLongArray(NumberConversion.STRICT, new long[1], 0));
+      assertSame(Event.START_ARRAY, parser.currentEvent());
+      assertArrayEquals(new long[] {1L, 2L}, parser.getLongArray(NumberConversion.STRICT));
+      assertSame(Event.END_ARRAY, parser.next());
+      assertFalse(parser.hasNext());
+    }
+  }
+
+  @Test
+  void reset() throws IOException {
+    try (JsonNodeJsonParser parser = new JsonNodeJsonParser(OBJECT_MAPPER.readTree(NESTED_LIST_OF_NUMBERS))) {
+      assertSame(Event.START_ARRAY, parser.next());
+      assertSame(Event.START_ARRAY, parser.next());
+      parser.reset(OBJECT_MAPPER.readTree(SINGLETON_OBJECT));
+      assertNull(parser.currentEvent());
+      assertSame(Event.START_OBJECT, parser.next());
+      assertSame(Event.KEY_NAME, parser.next());
+      assertSame(Event.VALUE_STRING, parser.next());
+      assertSame(Event.END_OBJECT, parser.next());
+      assertFalse(parser.hasNext());
+    }
+  }
+
+  @Test
+  void jacksonJsonParserLocation() throws IOException {
+    try (JacksonJsonParser parser = new JacksonJsonParser(OBJECT_MAPPER.createParser("[1,\n [2, 3],\n 4]"))) {
+      assertSame(Event.START_ARRAY, parser.next());
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertSame(Event.START_ARRAY, parser.next());
+      assertEquals(2L, parser.getLocation().getLineNumber());
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      parser.skipArray();
+      assertSame(Event.END_ARRAY, parser.currentEvent());
+      assertSame(Event.VALUE_NUMBER, parser.next());
+      assertEquals(4, parser.getInt());
+      assertEquals(3L, parser.getLocation().getLineNumber());
+      assertTrue(parser.getLocation().getStreamOffset() > 0L);
+      assertSame(Event.END_ARRAY, parser.next());
+      assertFalse(parser.hasNext());
+    }
+  }
+
+  @Test
+  void nonBlockingByteAtATime() {
+    byte[] input = NESTED_JSON_INPUT.getBytes(StandardCharsets.UTF_8);
+    List<Event> events = new ArrayList<>();
+    try (NonBlockingJacksonJsonParser parser = new NonBlockingJacksonJsonParser()) {
+      int index = 0;
+      while (parser.hasNext()) {
+        Event event = parser.nextAvailable();
+        if (event == null) {
+          assertTrue(parser.needsInput());
+          assertThrows(IllegalStateException.class, parser::next);
+          if (index < input.length) {
+            parser.feed(ByteBuffer.wrap(input, index++, 1));
+          } else {
+            parser.endOfInput();
+          }
+        } else {
+          events.add(event);
+          if (event == Event.START_OBJECT) {
+            // completes as input is fed
+            parser.skipObject();
+          }
+        }
+      }
+    }
+    assertEquals(List.of(Event.START_ARRAY, Event.START_OBJECT, Event.VALUE_NUMBER,
+            Event.START_ARRAY, Event.START_OBJECT, Event.END_ARRAY, Event.VALUE_NUMBER, Event.END_ARRAY), events);
+  }
+
+  @Test
+  void byteBufferJsonSubscriber() throws Exception {
+    List<String> values = new ArrayList<>();
+    ByteBufferJsonSubscriber subscriber = new ByteBufferJsonSubscriber(new NonBlockingJacksonJsonParser(), parser -> {
+      if (parser.currentEvent() == Event.VALUE_STRING || parser.currentEvent() == Event.VALUE_NUMBER) {
+        values.add(parser.getString());
+      }
+    });
+    try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(subscriber);
+      for (String chunk : List.of("{\"key1\":[1,123", "4567890,1.1,true,false,null],\"ke", "y2\":[\"str", "ing\",-2]}")) {
+        publisher.submit(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+      }
+    }
+    subscriber.getCompletion().get(10L, TimeUnit.SECONDS);
+    assertEquals(List.of("1", "1234567890", "1.1", "string", "-2"), values);
+  }
+
+  @Test
+  void byteBufferJsonSubscriberFailure() {
+    ByteBufferJsonSubscriber subscriber = new ByteBufferJsonSubscriber(new NonBlockingJacksonJsonParser(), parser -> {
+    });
+    try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(subscriber);
+      publisher.submit(ByteBuffer.wrap("[1, 2".getBytes(StandardCharsets.UTF_8)));
+    }
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> subscriber.getCompletion().get(10L, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof JsonParsingException);
+  }
+
   @ParameterizedTest
   @MethodSource("parsers")
   void roundTrip(StringParserFactory stringParserFactory) throws IOException {
@@ -350,6 +627,84 @@ class JsonNodeJsonParserTests {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("parsers")
+  void arrayStream(StringParserFactory stringParserFactory) throws IOException {
+    try (JsonParser jsonParser = stringParserFactory.parse(STRUCTURES)) {
+      assertSame(Event.START_ARRAY, jsonParser.next());
+      assertSame(Event.START_ARRAY, jsonParser.next());
+      List<JsonValue> values = assumeSupported(jsonParser::getArrayStream).toList();
+      List<JsonValue> expected = List.of(JsonValue.NULL, JsonValue.TRUE, JsonValue.FALSE, Json.createValue(1), Json.createValue("one"),
+              Json.createObjectBuilder().add("key", "value").build());
+      assertEquals(expected, values);
+      assertSame(Event.END_ARRAY, jsonParser.currentEvent());
+
+      assertSame(Event.START_OBJECT, jsonParser.next());
+      jsonParser.skipObject();
+      assertSame(Event.END_ARRAY, jsonParser.next());
+      assertFalse(jsonParser.hasNext());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("parsers")
+  void partialArrayStream(StringParserFactory stringParserFactory) throws IOException {
+    try (JsonParser jsonParser = stringParserFactory.parse(STRUCTURES)) {
+      assertSame(Event.START_ARRAY, jsonParser.next());
+      List<JsonValue> values = assumeSupported(jsonParser::getArrayStream)
+              .limit(1L)
+              .toList();
+      assertEquals(1, values.size());
+      assertSame(ValueType.ARRAY, values.get(0).getValueType());
+      assertSame(Event.START_OBJECT, jsonParser.next());
+      assertSame(Event.KEY_NAME, jsonParser.next());
+      assertEquals("key1", jsonParser.getString());
+      jsonParser.skipObject();
+      assertSame(Event.END_ARRAY, jsonParser.next());
+      assertFalse(jsonParser.hasNext());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("parsers")
+  void objectStream(StringParserFactory stringParserFactory) throws IOException {
+    try (JsonParser jsonParser = stringParserFactory.parse(SAMPLE_JSON)) {
+      assertSame(Event.START_OBJECT, jsonParser.next());
+      List<String> keys = assumeSupported(jsonParser::getObjectStream)
+              .map(Entry::getKey)
+              .toList();
+      assertEquals(List.of("key1", "key2"), keys);
+      assertSame(Event.END_OBJECT, jsonParser.currentEvent());
+      assertFalse(jsonParser.hasNext());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("parsers")
+  void valueStream(StringParserFactory stringParserFactory) throws IOException {
+    try (JsonParser jsonParser = stringParserFactory.parse(NESTED_SINGLETON_STRUCTURES)) {
+      List<JsonValue> values = assumeSupported(jsonParser::getValueStream).toList();
+      JsonObject expected = Json.createObjectBuilder()
+              .add("key", Json.createObjectBuilder().add("key", "value"))
+              .build();
+      assertEquals(List.of(expected), values);
+      assertFalse(jsonParser.hasNext());
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("parsers")
+  void valueStreamInObject(StringParserFactory stringParserFactory) throws IOException {
+    try (JsonParser jsonParser = stringParserFactory.parse(NESTED_SINGLETON_STRUCTURES)) {
+      assertSame(Event.START_OBJECT, jsonParser.next());
+      RuntimeException exception = assertThrows(RuntimeException.class, jsonParser::getValueStream);
+      if (exception instanceof UnsupportedOperationException) {
+        throw new TestAbortedException();
+      }
+      assertTrue(exception instanceof IllegalStateException);
+    }
+  }
+
   @FunctionalInterface
   interface StringParserFactory {
 
@@ -377,6 +732,22 @@ class JsonNodeJsonParserTests {
     return new JsonNodeJsonParser(jacksonNode);
   }
 
+  private static JsonParser jacksonJsonParser(String json) throws IOException {
+    return new JacksonJsonParser(OBJECT_MAPPER.createParser(json));
+  }
+
+  private static JsonParser nonBlockingJacksonJsonParser(String json) {
+    NonBlockingJacksonJsonParser parser = new NonBlockingJacksonJsonParser();
+    parser.feed(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+    parser.endOfInput();
+    return parser;
+  }
+
+  private static JsonParser pooledJsonNodeJsonParser(String json) throws JacksonException {
+    JsonNode jacksonNode = OBJECT_MAPPER.readTree(json);
+    return PARSER_POOL.createParser(jacksonNode);
+  }
+
   private static void assertRoundTrip(JsonParser jsonParser) throws IOException {
     String output;
     try (StringWriter stringWriter = new StringWriter();
@@ -0,0 +1,335 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import jakarta.json.JsonValue.ValueType;
+import jakarta.json.spi.JsonProvider;
+
+class JsonNodeJsonPatchTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final JsonProvider PARSSON = JsonProvider.provider();
+
+  private static final int RANDOM_PATCHES = 20_000;
+
+  private static final String SAMPLE_JSON = "{\"a\":{\"b\":[1,2,{\"c\":3}],\"d\":\"e\"},\"f\":{\"g\":true},\"h\":[]}";
+
+  private static JsonValue readValue(String json) {
+    try (JsonReader reader = PARSSON.createReader(new StringReader(json))) {
+      return reader.readValue();
+    }
+  }
+
+  static Stream<Arguments> patches() {
+    return Stream.of(
+        Arguments.of("[{\"op\":\"add\",\"path\":\"/a/x\",\"value\":1}]"),
+        Arguments.of("[{\"op\":\"add\",\"path\":\"/a/b/1\",\"value\":{\"y\":[]}}]"),
+        Arguments.of("[{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":4}]"),
+        Arguments.of("[{\"op\":\"add\",\"path\":\"/a/b/3\",\"value\":4}]"),
+        Arguments.of("[{\"op\":\"add\",\"path\":\"/a\",\"value\":null}]"),
+        Arguments.of("[{\"op\":\"add\",\"path\":\"\",\"value\":[1]}]"),
+        Arguments.of("[{\"op\":\"remove\",\"path\":\"/a/b/0\"}]"),
+        Arguments.of("[{\"op\":\"remove\",\"path\":\"/f\"}]"),
+        Arguments.of("[{\"op\":\"replace\",\"path\":\"/a/b/2/c\",\"value\":\"x\"}]"),
+        Arguments.of("[{\"op\":\"replace\",\"path\":\"/h\",\"value\":{}}]"),
+        Arguments.of("[{\"op\":\"move\",\"from\":\"/a/b/2\",\"path\":\"/h/0\"}]"),
+        Arguments.of("[{\"op\":\"move\",\"from\":\"/a/d\",\"path\":\"/f/d\"}]"),
+        Arguments.of("[{\"op\":\"move\",\"from\":\"/a/b/0\",\"path\":\"/a/b/2\"}]"),
+        Arguments.of("[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/a\"}]"),
+        Arguments.of("[{\"op\":\"copy\",\"from\":\"/a/b\",\"path\":\"/f/b\"}]"),
+        Arguments.of("[{\"op\":\"copy\",\"from\":\"/f\",\"path\":\"/h/-\"},{\"op\":\"add\",\"path\":\"/h/0/i\",\"value\":1}]"),
+        Arguments.of("[{\"op\":\"replace\",\"path\":\"/a/d\",\"value\":{\"n\":0}},{\"op\":\"copy\",\"path\":\"/a/c\",\"from\":\"/a\"}]"),
+        Arguments.of("[{\"op\":\"add\",\"path\":\"/a/y\",\"value\":1},{\"op\":\"copy\",\"from\":\"/a\",\"path\":\"/b\"},{\"op\":\"add\",\"path\":\"/b/z\",\"value\":2}]"),
+        Arguments.of("[{\"op\":\"test\",\"path\":\"/a/b\",\"value\":[1,2,{\"c\":3}]},{\"op\":\"remove\",\"path\":\"/h\"}]"),
+        Arguments.of("[{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":4},{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":5},{\"op\":\"remove\",\"path\":\"/a/b/0\"}]"),
+        Arguments.of("[]"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("patches")
+  void sameAsDefault(String patchJson) throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNode unmodified = source.deepCopy();
+    JsonPatch expected = PARSSON.createPatch(readValue(patchJson).asJsonArray());
+    JsonNodeJsonPatch actual = new JsonNodeJsonPatch(readValue(patchJson).asJsonArray());
+    JsonStructure expectedResult = expected.apply((JsonStructure) readValue(SAMPLE_JSON));
+
+    JsonStructure result = actual.apply(JsonNodeValues.asJsonObject(source));
+    assertEquals(expectedResult, result);
+    assertEquals(expectedResult.toString(), result.toString());
+    assertInstanceOf(JsonNodeValue.class, result);
+    assertEquals(unmodified, source);
+
+    assertEquals(expectedResult, actual.apply((JsonStructure) readValue(SAMPLE_JSON)));
+
+    assertEquals(expectedResult, JsonNodeValues.adapt(actual.applyInPlace(source)));
+  }
+
+  @Test
+  void randomPatches() throws JacksonException {
+    Random random = new Random(0x5EED);
+    for (int i = 0; i < RANDOM_PATCHES; i++) {
+      // every operation applies to the document as patched by the previous ones
+      JsonStructure expected = (JsonStructure) readValue(SAMPLE_JSON);
+      JsonArrayBuilder builder = PARSSON.createArrayBuilder();
+      int length = 1 + random.nextInt(5);
+      for (int j = 0; j < length; j++) {
+        JsonObject operation = randomOperation(random, expected);
+        try {
+          expected = PARSSON.createPatch(PARSSON.createArrayBuilder().add(operation).build()).apply(expected);
+          builder.add(operation);
+        } catch (JsonException e) {
+          // try another operation
+        }
+      }
+      String patchJson = builder.build().toString();
+      JsonNodeJsonPatch patch = new JsonNodeJsonPatch(readValue(patchJson).asJsonArray());
+      JsonNode source = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+
+      assertEquals(expected.toString(), JsonNodeValues.adapt(patch.apply(source)).toString(), patchJson);
+      assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), source, patchJson);
+      assertEquals(expected.toString(), JsonNodeValues.adapt(patch.applyInPlace(source)).toString(), patchJson);
+    }
+  }
+
+  private static JsonObject randomOperation(Random random, JsonStructure document) {
+    List<String> values = new ArrayList<>();
+    List<String> containers = new ArrayList<>();
+    collectPaths("", document, values, containers);
+    String[] ops = {"add", "remove", "replace", "move", "copy"};
+    if (values.isEmpty()) {
+      return PARSSON.createObjectBuilder().add("op", "add").add("path", "/a").add("value", 1).build();
+    }
+    String op = ops[random.nextInt(ops.length)];
+    String existing = values.get(random.nextInt(values.size()));
+    String path = switch (op) {
+      case "add", "move", "copy" -> {
+        String container = containers.get(random.nextInt(containers.size()));
+        yield container + '/' + (random.nextBoolean() ? "-" : Character.toString('w' + random.nextInt(4)));
+      }
+      default -> existing;
+    };
+    JsonObjectBuilder operation = PARSSON.createObjectBuilder()
+            .add("op", op)
+            .add("path", path);
+    switch (op) {
+      case "add", "replace" -> operation.add("value", random.nextBoolean()
+              ? PARSSON.createObjectBuilder().add("n", random.nextInt(3)).build()
+              : PARSSON.createArrayBuilder().add(random.nextInt(3)).build());
+      case "move", "copy" -> operation.add("from", existing);
+      default -> {
+        // only path
+      }
+    }
+    return operation.build();
+  }
+
+  private static void collectPaths(String path, JsonValue value, List<String> values, List<String> containers) {
+    if (!path.isEmpty()) {
+      values.add(path);
+    }
+    if (value.getValueType() == ValueType.OBJECT) {
+      containers.add(path);
+      for (Entry<String, JsonValue> member : value.asJsonObject().entrySet()) {
+        collectPaths(path + '/' + member.getKey(), member.getValue(), values, containers);
+      }
+    } else if (value.getValueType() == ValueType.ARRAY) {
+      containers.add(path);
+      JsonArray array = value.asJsonArray();
+      for (int i = 0; i < array.size(); i++) {
+        collectPaths(path + '/' + i, array.get(i), values, containers);
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "[{\"op\":\"add\",\"path\":\"/x/y\",\"value\":1}]",
+    "[{\"op\":\"add\",\"path\":\"/a/b/4\",\"value\":1}]",
+    "[{\"op\":\"add\",\"path\":\"/a/d/x\",\"value\":1}]",
+    "[{\"op\":\"remove\",\"path\":\"/x\"}]",
+    "[{\"op\":\"remove\",\"path\":\"/a/b/3\"}]",
+    "[{\"op\":\"remove\",\"path\":\"\"}]",
+    "[{\"op\":\"replace\",\"path\":\"/x\",\"value\":1}]",
+    "[{\"op\":\"move\",\"from\":\"/x\",\"path\":\"/y\"}]",
+    "[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/a/x\"}]",
+    "[{\"op\":\"copy\",\"from\":\"/x\",\"path\":\"/y\"}]",
+    "[{\"op\":\"test\",\"path\":\"/a/d\",\"value\":\"x\"}]",
+    "[{\"op\":\"test\",\"path\":\"/x\",\"value\":null}]"
+  })
+  void failedOperations(String patchJson) throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNodeJsonPatch patch = new JsonNodeJsonPatch(readValue(patchJson).asJsonArray());
+
+    assertThrows(JsonException.class, () -> patch.apply(source));
+    assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), source);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "[1]",
+    "[{\"path\":\"/a\"}]",
+    "[{\"op\":\"unknown\",\"path\":\"/a\"}]",
+    "[{\"op\":\"add\",\"value\":1}]",
+    "[{\"op\":\"add\",\"path\":\"/a\"}]",
+    "[{\"op\":\"move\",\"path\":\"/a\"}]",
+    "[{\"op\":\"remove\",\"path\":\"a\"}]"
+  })
+  void invalidPatch(String patchJson) {
+    assertThrows(JsonException.class, () -> new JsonNodeJsonPatch(readValue(patchJson).asJsonArray()));
+  }
+
+  @Test
+  void structuralSharing() throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNodeJsonPatch patch = new JsonNodeJsonPatch(readValue(
+            "[{\"op\":\"replace\",\"path\":\"/a/b/0\",\"value\":10},{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":11}]").asJsonArray());
+
+    JsonNode result = patch.apply(source);
+
+    assertNotSame(source, result);
+    assertNotSame(source.get("a"), result.get("a"));
+    assertNotSame(source.get("a").get("b"), result.get("a").get("b"));
+    assertSame(source.get("f"), result.get("f"));
+    assertSame(source.get("h"), result.get("h"));
+    assertSame(source.get("a").get("d"), result.get("a").get("d"));
+    assertSame(source.get("a").get("b").get(2), result.get("a").get("b").get(2));
+    assertEquals(OBJECT_MAPPER.readTree("[10,2,{\"c\":3},11]"), result.get("a").get("b"));
+    assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), source);
+  }
+
+  @Test
+  void inPlace() throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNode b = source.get("a").get("b");
+    JsonNodeJsonPatch patch = new JsonNodeJsonPatch(readValue(
+            "[{\"op\":\"remove\",\"path\":\"/a/b/1\"},{\"op\":\"copy\",\"from\":\"/f\",\"path\":\"/h/0\"}]").asJsonArray());
+
+    assertSame(source, patch.applyInPlace(source));
+    assertSame(b, source.get("a").get("b"));
+    assertEquals(OBJECT_MAPPER.readTree("[1,{\"c\":3}]"), b);
+    assertEquals(source.get("f"), source.get("h").get(0));
+    assertNotSame(source.get("f"), source.get("h").get(0));
+  }
+
+  static Stream<Arguments> mergePatches() {
+    // examples from RFC 7386 Appendix A
+    return Stream.of(
+        Arguments.of("{\"a\":\"b\"}", "{\"a\":\"c\"}"),
+        Arguments.of("{\"a\":\"b\"}", "{\"b\":\"c\"}"),
+        Arguments.of("{\"a\":\"b\"}", "{\"a\":null}"),
+        Arguments.of("{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}"),
+        Arguments.of("{\"a\":[\"b\"]}", "{\"a\":\"c\"}"),
+        Arguments.of("{\"a\":\"c\"}", "{\"a\":[\"b\"]}"),
+        Arguments.of("{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}"),
+        Arguments.of("{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}"),
+        Arguments.of("[\"a\",\"b\"]", "[\"c\",\"d\"]"),
+        Arguments.of("{\"a\":\"b\"}", "[\"c\"]"),
+        Arguments.of("{\"a\":\"foo\"}", "null"),
+        Arguments.of("{\"a\":\"foo\"}", "\"bar\""),
+        Arguments.of("{\"e\":null}", "{\"a\":1}"),
+        Arguments.of("[1,2]", "{\"a\":\"b\",\"c\":null}"),
+        Arguments.of("{}", "{\"a\":{\"bb\":{\"ccc\":null}}}"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("mergePatches")
+  void mergePatchSameAsDefault(String targetJson, String patchJson) throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(targetJson);
+    JsonNode unmodified = source.deepCopy();
+    JsonMergePatch expected = PARSSON.createMergePatch(readValue(patchJson));
+    JsonNodeJsonMergePatch actual = new JsonNodeJsonMergePatch(readValue(patchJson));
+    JsonValue expectedResult = expected.apply(readValue(targetJson));
+
+    assertEquals(expectedResult, actual.apply(JsonNodeValues.adapt(source)));
+    assertEquals(unmodified, source);
+    assertEquals(expectedResult, actual.apply(readValue(targetJson)));
+    assertEquals(expectedResult, JsonNodeValues.adapt(actual.applyInPlace(source)));
+  }
+
+  @Test
+  void mergePatchStructuralSharing() throws JacksonException {
+    JsonNode source = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonNodeJsonMergePatch patch = new JsonNodeJsonMergePatch(readValue("{\"a\":{\"d\":null},\"f\":{}}"));
+
+    JsonNode result = patch.apply(source);
+
+    assertNotSame(source.get("a"), result.get("a"));
+    assertSame(source.get("a").get("b"), result.get("a").get("b"));
+    assertSame(source.get("f"), result.get("f"));
+    assertSame(source.get("h"), result.get("h"));
+    assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), source);
+
+    JsonNode a = source.get("a");
+    assertSame(source, patch.applyInPlace(source));
+    assertSame(a, source.get("a"));
+    assertEquals(result, source);
+  }
+
+  @Test
+  void resultsDoNotSharePatch() throws JacksonException {
+    JsonNodeJsonPatch patch = new JsonNodeJsonPatch(readValue(
+            "[{\"op\":\"add\",\"path\":\"/x\",\"value\":{\"y\":[1]}}]").asJsonArray());
+    JsonNodeJsonMergePatch mergePatch = new JsonNodeJsonMergePatch(readValue("{\"x\":{\"y\":[1]},\"z\":[2]}"));
+    JsonNode expected = OBJECT_MAPPER.readTree("{\"y\":[1]}");
+
+    JsonNode patched = patch.apply(OBJECT_MAPPER.readTree(SAMPLE_JSON));
+    ((ArrayNode) patched.get("x").get("y")).add(2);
+    patch.applyInPlace(patched);
+    JsonNode merged = mergePatch.apply(OBJECT_MAPPER.readTree(SAMPLE_JSON));
+    ((ArrayNode) merged.get("x").get("y")).add(2);
+    ((ArrayNode) merged.get("z")).add(3);
+    mergePatch.applyInPlace(merged);
+
+    assertEquals(expected, patch.apply(OBJECT_MAPPER.readTree(SAMPLE_JSON)).get("x"));
+    assertEquals(expected, mergePatch.apply(OBJECT_MAPPER.readTree(SAMPLE_JSON)).get("x"));
+    assertEquals(OBJECT_MAPPER.readTree("[2]"), mergePatch.apply(OBJECT_MAPPER.readTree(SAMPLE_JSON)).get("z"));
+  }
+
+  @Test
+  void toJson() {
+    JsonValue patchArray = readValue("[{\"op\":\"remove\",\"path\":\"/a\"}]");
+    assertSame(patchArray, new JsonNodeJsonPatch(patchArray.asJsonArray()).toJsonArray());
+
+    JsonObject mergePatch = readValue("{\"a\":null}").asJsonObject();
+    assertSame(mergePatch, new JsonNodeJsonMergePatch(mergePatch).toJsonValue());
+  }
+
+}
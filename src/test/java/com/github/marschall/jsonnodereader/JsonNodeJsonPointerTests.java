@@ -0,0 +1,102 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+class JsonNodeJsonPointerTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final String SAMPLE_JSON = "{\"a\":[1,{\"b\":\"c\"}],\"m~n\":true,\"c/d\":null,\"\":\"empty\",\"e\":{\"0\":\"zero\"}}";
+
+  private static JsonObject readObject(String json) {
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      return reader.readObject();
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "/", "/a", "/a/0", "/a/1", "/a/1/b", "/m~0n", "/c~1d", "/e", "/e/0",
+      "/a/-", "/a/2", "/x", "/e/1"})
+  void sameAsDefault(String pointer) throws JacksonException {
+    JsonObject view = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree(SAMPLE_JSON));
+    JsonObject expectedTarget = readObject(SAMPLE_JSON);
+    JsonPointer expected = Json.createPointer(pointer);
+    JsonNodeJsonPointer actual = JsonNodeJsonPointer.compile(pointer);
+
+    assertEquals(expected.containsValue(expectedTarget), actual.containsValue(view));
+    assertEquals(expected.containsValue(expectedTarget), actual.containsValue(expectedTarget));
+    if (expected.containsValue(expectedTarget)) {
+      JsonValue value = actual.getValue(view);
+      assertEquals(expected.getValue(expectedTarget), value);
+      if (value.getValueType() == JsonValue.ValueType.OBJECT || value.getValueType() == JsonValue.ValueType.ARRAY) {
+        assertInstanceOf(JsonNodeValue.class, value);
+      }
+      assertEquals(expected.getValue(expectedTarget), actual.getValue(expectedTarget));
+    } else {
+      assertThrows(JsonException.class, () -> actual.getValue(view));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"/a/01", "/a/0/z", "/a/b", "/a/-"})
+  void notFound(String pointer) throws JacksonException {
+    // the default provider throws from containsValue for some of these
+    JsonObject view = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree(SAMPLE_JSON));
+    JsonNodeJsonPointer actual = JsonNodeJsonPointer.compile(pointer);
+    assertFalse(actual.containsValue(view));
+    assertThrows(JsonException.class, () -> actual.getValue(view));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"a", "/~2", "/a~"})
+  void invalid(String pointer) {
+    assertThrows(JsonException.class, () -> JsonNodeJsonPointer.compile(pointer));
+  }
+
+  @Test
+  void compiledOnce() throws JacksonException {
+    JsonNodeJsonPointer pointer = JsonNodeJsonPointer.compile("/a/1/b");
+    assertSame(pointer, JsonNodeJsonPointer.compile("/a/1/b"));
+    assertEquals("/a/1/b", pointer.toString());
+    assertEquals("c", pointer.getJsonNode(OBJECT_MAPPER.readTree(SAMPLE_JSON)).textValue());
+
+    JsonObject view = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree(SAMPLE_JSON));
+    assertSame(view, JsonNodeJsonPointer.compile("").getValue(view));
+  }
+
+  @Test
+  void modifyingOperationsAreDelegated() throws JacksonException {
+    JsonObject view = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree(SAMPLE_JSON));
+    JsonNodeJsonPointer pointer = JsonNodeJsonPointer.compile("/e/1");
+
+    JsonObject added = pointer.add(view, Json.createValue("one"));
+    assertEquals("one", added.getJsonObject("e").getString("1"));
+    assertFalse(pointer.containsValue(view));
+    assertEquals(view, JsonNodeJsonPointer.compile("/e/1").remove(added));
+  }
+
+}
@@ -0,0 +1,153 @@
+package com.github.marschall.jsonnodereader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import jakarta.json.stream.JsonParserFactory;
+import jakarta.json.stream.JsonParsingException;
+
+class JsonNodeJsonProviderTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final JsonNodeJsonProvider PROVIDER = new JsonNodeJsonProvider();
+
+  @Test
+  void parserFactoryUnwrapsViews() throws JacksonException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree("{\"key\": [1, 2]}");
+    JsonParserFactory parserFactory = PROVIDER.createParserFactory(null);
+
+    try (JsonParser parser = parserFactory.createParser(JsonNodeValues.asJsonObject(jsonNode))) {
+      assertInstanceOf(JsonNodeJsonParser.class, parser);
+      assertSame(Event.START_OBJECT, parser.next());
+    }
+    try (JsonParser parser = parserFactory.createParser(JsonNodeValues.asJsonArray(jsonNode.get("key")))) {
+      assertInstanceOf(JsonNodeJsonParser.class, parser);
+      assertSame(Event.START_ARRAY, parser.next());
+    }
+  }
+
+  @Test
+  void parserFactoryDelegates() {
+    JsonParserFactory parserFactory = PROVIDER.createParserFactory(null);
+    JsonObject jsonObject = Json.createObjectBuilder().add("key", "value").build();
+    try (JsonParser parser = parserFactory.createParser(jsonObject)) {
+      assertFalse(parser instanceof JsonNodeJsonParser);
+      assertSame(Event.START_OBJECT, parser.next());
+    }
+    try (JsonParser parser = PROVIDER.createParser(new StringReader("[1]"))) {
+      assertSame(Event.START_ARRAY, parser.next());
+      assertSame(Event.VALUE_NUMBER, parser.next());
+    }
+  }
+
+  @Test
+  void reader() throws JacksonException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree("{\"key\": [1, 2]}");
+    JsonObject expected = Json.createObjectBuilder()
+            .add("key", Json.createArrayBuilder().add(1).add(2))
+            .build();
+
+    try (JsonReader reader = PROVIDER.createReaderFactory(null).createReader(jsonNode)) {
+      JsonObject jsonObject = reader.readObject();
+      assertInstanceOf(JsonNodeJsonObject.class, jsonObject);
+      assertEquals(expected, jsonObject);
+      assertThrows(IllegalStateException.class, reader::read);
+    }
+    try (JsonReader reader = PROVIDER.createReader(jsonNode)) {
+      assertThrows(JsonParsingException.class, reader::readArray);
+    }
+    try (JsonReader reader = PROVIDER.createReader(jsonNode.get("key"))) {
+      JsonArray jsonArray = reader.readArray();
+      assertEquals(Json.createArrayBuilder().add(1).add(2).build(), jsonArray);
+    }
+    try (JsonReader reader = PROVIDER.createReader(jsonNode.get("key").get(0))) {
+      assertEquals(Json.createValue(1), reader.readValue());
+    }
+  }
+
+  @Test
+  void values() throws JacksonException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree("{\"key\": [1, \"two\", null]}");
+    assertSame(JsonValue.ValueType.OBJECT, PROVIDER.createValue(jsonNode).getValueType());
+    assertSame(JsonValue.NULL, JsonNodeValues.adapt(jsonNode.get("key").get(2)));
+    assertEquals(Json.createValue("two"), JsonNodeValues.adapt(jsonNode.get("key").get(1)));
+    assertThrows(IllegalArgumentException.class, () -> JsonNodeValues.asJsonArray(jsonNode));
+    assertThrows(IllegalArgumentException.class, () -> JsonNodeValues.asJsonObject(jsonNode.get("key")));
+  }
+
+  @Test
+  void pointer() throws JacksonException {
+    JsonObject jsonObject = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree("{\"key\": [1, 2]}"));
+    JsonNodeJsonPointer pointer = PROVIDER.createPointer("/key/1");
+
+    assertSame(pointer, PROVIDER.createPointer("/key/1"));
+    assertEquals(Json.createValue(2), pointer.getValue(jsonObject));
+    assertEquals(Json.createValue(2), pointer.getValue(Json.createObjectBuilder()
+            .add("key", Json.createArrayBuilder().add(1).add(2))
+            .build()));
+  }
+
+  @Test
+  void patch() throws JacksonException {
+    JsonObject jsonObject = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree("{\"key\": [1, 2], \"other\": {}}"));
+    JsonNodeJsonPatch patch = PROVIDER.createPatch(Json.createArrayBuilder()
+            .add(Json.createObjectBuilder().add("op", "remove").add("path", "/key/0"))
+            .build());
+    JsonNodeJsonMergePatch mergePatch = PROVIDER.createMergePatch(Json.createObjectBuilder()
+            .addNull("other")
+            .build());
+
+    assertEquals(Json.createObjectBuilder().add("key", Json.createArrayBuilder().add(2)).add("other", JsonValue.EMPTY_JSON_OBJECT).build(),
+            patch.apply(jsonObject));
+    assertEquals(Json.createObjectBuilder().add("key", Json.createArrayBuilder().add(1).add(2)).build(),
+            mergePatch.apply(jsonObject));
+  }
+
+  @Test
+  void builders() throws JacksonException {
+    JsonObject jsonObject = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree("{\"key\": [1, 2]}"));
+
+    JsonObject object = PROVIDER.createObjectBuilder(jsonObject).add("other", 3).build();
+    assertInstanceOf(JsonNodeValue.class, object);
+    assertEquals(Json.createObjectBuilder().add("key", Json.createArrayBuilder().add(1).add(2)).add("other", 3).build(), object);
+
+    JsonArray array = PROVIDER.createArrayBuilder(jsonObject.getJsonArray("key")).add(3).build();
+    assertInstanceOf(JsonNodeValue.class, array);
+    assertEquals(Json.createArrayBuilder().add(1).add(2).add(3).build(), array);
+  }
+
+  @Test
+  void diff() throws JacksonException {
+    JsonObject source = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree("{\"key\": [1, 2], \"other\": {}}"));
+    JsonObject target = JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree("{\"key\": [1, 3]}"));
+
+    assertInstanceOf(JsonNodeJsonPatch.class, PROVIDER.createDiff(source, target));
+    assertEquals(target, PROVIDER.createDiff(source, target).apply(source));
+    assertInstanceOf(JsonNodeJsonMergePatch.class, PROVIDER.createMergeDiff(source, target));
+    assertEquals(target, PROVIDER.createMergeDiff(source, target).apply(source));
+  }
+
+}
@@ -0,0 +1,336 @@
+package com.github.marschall.jsonnodereader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+class JsonNodeValuesTests {
+
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+          .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+          .build();
+
+  private static final String SAMPLE_JSON = "{\"key1\":[1,1234567890,1.1,true,false,null],\"key2\":[\"string\",-2,{}],\"key3\":9223372036854775808}";
+
+  record Sample(List<Object> key1, List<Object> key2, BigDecimal key3) {
+
+  }
+
+  private static JsonObject readObject(String json) {
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      return reader.readObject();
+    }
+  }
+
+  @Test
+  void toJsonNode() throws JacksonException {
+    JsonNode jsonNode = JsonNodeValues.toJsonNode(readObject(SAMPLE_JSON));
+    assertEquals(OBJECT_MAPPER.readTree(SAMPLE_JSON), jsonNode);
+    assertEquals(3, jsonNode.size());
+    assertEquals(1234567890, jsonNode.get("key1").get(1).intValue());
+    assertTrue(jsonNode.get("key3").isBigInteger());
+    assertEquals(SAMPLE_JSON, OBJECT_MAPPER.writeValueAsString(jsonNode));
+  }
+
+  @Test
+  void treeToValue() throws JacksonException {
+    JsonNode jsonNode = JsonNodeValues.toJsonNode(readObject(SAMPLE_JSON));
+    Sample sample = OBJECT_MAPPER.treeToValue(jsonNode, Sample.class);
+    assertEquals(new BigDecimal("9223372036854775808"), sample.key3());
+    assertEquals("string", sample.key2().get(0));
+  }
+
+  @Test
+  void readOnly() {
+    JsonNode jsonNode = JsonNodeValues.toJsonNode(readObject(SAMPLE_JSON));
+    assertThrows(UnsupportedOperationException.class, () -> ((ObjectNode) jsonNode).put("key4", 1));
+    assertThrows(UnsupportedOperationException.class, () -> ((ArrayNode) jsonNode.get("key1")).add(1));
+  }
+
+  @Test
+  void unwrap() throws JacksonException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    assertSame(jsonNode, JsonNodeValues.toJsonNode(JsonNodeValues.adapt(jsonNode)));
+    assertSame(jsonNode.get("key1"), JsonNodeValues.toJsonNode(JsonNodeValues.adapt(jsonNode.get("key1"))));
+  }
+
+  @Test
+  void objectViews() throws JacksonException {
+    ObjectNode jsonNode = (ObjectNode) OBJECT_MAPPER.readTree("{\"c\": 1, \"a\": \"two\", \"b\": null}");
+    JsonObject jsonObject = JsonNodeValues.asJsonObject(jsonNode);
+
+    Set<String> keySet = jsonObject.keySet();
+    Collection<JsonValue> values = jsonObject.values();
+    Set<Entry<String, JsonValue>> entrySet = jsonObject.entrySet();
+    assertEquals(List.of("c", "a", "b"), List.copyOf(keySet));
+    assertEquals(List.of(Json.createValue(1), Json.createValue("two"), JsonValue.NULL), List.copyOf(values));
+    assertEquals(List.of(Map.entry("c", Json.createValue(1)), Map.entry("a", Json.createValue("two")), Map.entry("b", JsonValue.NULL)),
+            List.copyOf(entrySet));
+
+    assertTrue(keySet.contains("a"));
+    assertFalse(keySet.contains("d"));
+    assertTrue(values.contains(Json.createValue("two")));
+    assertTrue(entrySet.contains(Map.entry("c", Json.createValue(1))));
+    assertFalse(entrySet.contains(Map.entry("c", Json.createValue(2))));
+
+    // live views
+    jsonNode.put("d", true);
+    assertEquals(4, keySet.size());
+    assertTrue(keySet.contains("d"));
+    assertTrue(values.contains(JsonValue.TRUE));
+
+    Iterator<String> keys = keySet.iterator();
+    keys.next();
+    assertThrows(UnsupportedOperationException.class, keys::remove);
+    assertThrows(UnsupportedOperationException.class, () -> keySet.remove("a"));
+    assertThrows(UnsupportedOperationException.class, entrySet::clear);
+    assertEquals(4, jsonNode.size());
+  }
+
+  @Test
+  void adaptMemoizing() throws JacksonException {
+    ObjectNode jsonNode = (ObjectNode) OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonObject jsonObject = (JsonObject) JsonNodeValues.adaptMemoizing(jsonNode);
+
+    JsonArray key2 = jsonObject.getJsonArray("key2");
+    assertSame(key2, jsonObject.get("key2"));
+    assertSame(key2, jsonObject.values().stream().skip(1L).findFirst().get());
+    assertSame(key2.getJsonObject(2), key2.get(2));
+    assertSame(key2.getJsonString(0), key2.iterator().next());
+    assertSame(key2.get(1), key2.stream().skip(1L).findFirst().get());
+    assertEquals(Json.createValue("string"), key2.get(0));
+
+    // changes are still visible
+    jsonNode.putArray("key2").add("changed");
+    JsonArray changed = jsonObject.getJsonArray("key2");
+    assertNotSame(key2, changed);
+    assertEquals(List.of(Json.createValue("changed")), changed);
+    assertSame(changed, jsonObject.getJsonArray("key2"));
+
+    // live views are not memoized
+    JsonObject live = JsonNodeValues.asJsonObject(jsonNode);
+    assertNotSame(live.get("key1"), live.get("key1"));
+  }
+
+  @Test
+  void adaptMemoizingGrowingNodes() {
+    ObjectNode small = JsonNodeFactory.instance.objectNode();
+    small.putObject("a");
+    JsonObject smallObject = (JsonObject) JsonNodeValues.adaptMemoizing(small);
+    JsonObject a = smallObject.getJsonObject("a");
+    // more children than slots
+    for (int i = 0; i < 20; i++) {
+      small.putArray("key" + i);
+    }
+    JsonArray key10 = smallObject.getJsonArray("key10");
+    for (int i = 0; i < 20; i++) {
+      assertEquals(JsonValue.EMPTY_JSON_ARRAY, smallObject.getJsonArray("key" + i));
+    }
+    assertSame(key10, smallObject.getJsonArray("key10"));
+    assertNotSame(a, smallObject.getJsonObject("a"));
+    assertSame(smallObject.getJsonObject("a"), smallObject.getJsonObject("a"));
+
+    ArrayNode array = JsonNodeFactory.instance.arrayNode();
+    array.addObject();
+    JsonArray jsonArray = (JsonArray) JsonNodeValues.adaptMemoizing(array);
+    JsonObject first = jsonArray.getJsonObject(0);
+    array.addObject();
+    JsonObject second = jsonArray.getJsonObject(1);
+    assertSame(first, jsonArray.getJsonObject(0));
+    assertSame(second, jsonArray.getJsonObject(1));
+  }
+
+  @Test
+  void adaptMemoizingLargeArray() {
+    ArrayNode array = JsonNodeFactory.instance.arrayNode();
+    for (int i = 0; i < 10_000; i++) {
+      array.addObject().put("id", i);
+    }
+    JsonArray jsonArray = (JsonArray) JsonNodeValues.adaptMemoizing(array);
+    List<JsonObject> retained = new ArrayList<>();
+    for (int i = 0; i < array.size(); i++) {
+      retained.add(jsonArray.getJsonObject(i));
+    }
+    for (int i = 0; i < array.size(); i++) {
+      assertSame(retained.get(i), jsonArray.get(i));
+    }
+
+    // replaced children are not returned
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < array.size(); i++) {
+        array.set(i, JsonNodeFactory.instance.objectNode().put("id", -i));
+      }
+      JsonObject changed = jsonArray.getJsonObject(42);
+      assertEquals(-42, changed.getInt("id"));
+      for (int i = 0; i < array.size(); i++) {
+        jsonArray.get(i);
+      }
+      assertSame(changed, jsonArray.getJsonObject(42));
+    }
+  }
+
+  @Test
+  void adaptFrozen() throws JacksonException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonObject frozen = (JsonObject) JsonNodeValues.adaptFrozen(jsonNode);
+    JsonObject expected = readObject(SAMPLE_JSON);
+
+    assertEquals(expected.hashCode(), frozen.hashCode());
+    assertEquals(JsonNodeValues.asJsonObject(jsonNode).hashCode(), frozen.hashCode());
+    assertEquals(expected.getJsonArray("key2").hashCode(), frozen.getJsonArray("key2").hashCode());
+    assertEquals(expected, frozen);
+    assertEquals(frozen, expected);
+    assertEquals(frozen, JsonNodeValues.adaptFrozen(OBJECT_MAPPER.readTree(SAMPLE_JSON)));
+    assertNotEquals(frozen, JsonNodeValues.adaptFrozen(OBJECT_MAPPER.readTree("{\"key1\":[]}")));
+
+    assertEquals(SAMPLE_JSON, frozen.toString());
+    assertSame(frozen.toString(), frozen.toString());
+    assertSame(frozen.getJsonArray("key1"), frozen.get("key1"));
+    assertSame(frozen.getJsonArray("key1").toString(), frozen.getJsonArray("key1").toString());
+  }
+
+  @Test
+  void nodeBackedEquals() throws JacksonException {
+    JsonNode jsonNode = OBJECT_MAPPER.readTree(SAMPLE_JSON);
+    JsonObject jsonObject = JsonNodeValues.asJsonObject(jsonNode);
+
+    assertEquals(jsonObject, JsonNodeValues.asJsonObject(jsonNode));
+    assertEquals(jsonObject, JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree(SAMPLE_JSON)));
+    assertEquals(jsonObject, JsonNodeValues.adaptMemoizing(OBJECT_MAPPER.readTree(SAMPLE_JSON)));
+    assertEquals(jsonObject.get("key2"), JsonNodeValues.adapt(jsonNode.get("key2").deepCopy()));
+    assertEquals(jsonObject.getJsonArray("key2").get(0), JsonNodeValues.adapt(jsonNode.get("key2").get(0).deepCopy()));
+
+    // JSON-P number semantics, 1 and 1.0 are different
+    assertNotEquals(JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[1]")), JsonNodeValues.adapt(JsonNodeFactory.instance.arrayNode().add(1.0d)));
+    assertEquals(JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[1]")), JsonNodeValues.adapt(JsonNodeFactory.instance.arrayNode().add(1L)));
+    assertEquals(JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[1]")), JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[1]")));
+    assertNotEquals(jsonObject, JsonNodeValues.asJsonObject(OBJECT_MAPPER.readTree("{\"key1\":[],\"key2\":[],\"key4\":1}")));
+    assertNotEquals(JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[true]")), JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[false]")));
+    assertNotEquals(JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[null]")), JsonNodeValues.adapt(OBJECT_MAPPER.readTree("[\"null\"]")));
+
+    // mixed with a JsonValue backed node
+    JsonNode converted = JsonNodeValues.toJsonNode(readObject(SAMPLE_JSON));
+    assertEquals(jsonObject, JsonNodeValues.asJsonObject(converted));
+    assertEquals(JsonNodeValues.asJsonObject(converted), jsonObject);
+  }
+
+  @Test
+  void writeTo() throws IOException {
+    JsonValue jsonValue = JsonNodeValues.adapt(OBJECT_MAPPER.readTree(SAMPLE_JSON));
+
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    JsonNodeValues.writeTo(jsonValue, outputStream);
+    assertEquals(SAMPLE_JSON, outputStream.toString(UTF_8));
+
+    StringWriter writer = new StringWriter();
+    JsonNodeValues.writeTo(jsonValue, writer);
+    // not closed
+    JsonNodeValues.writeTo(JsonValue.NULL, writer);
+    assertEquals(SAMPLE_JSON + "null", writer.toString());
+
+    outputStream.reset();
+    try (WritableByteChannel channel = Channels.newChannel(outputStream)) {
+      JsonNodeValues.writeTo(jsonValue, channel);
+      assertTrue(channel.isOpen());
+    }
+    assertEquals(SAMPLE_JSON, outputStream.toString(UTF_8));
+
+    writer = new StringWriter();
+    JsonNodeValues.writeTo(readObject(SAMPLE_JSON), writer);
+    assertEquals(SAMPLE_JSON, writer.toString());
+  }
+
+  @Test
+  void arrayListViews() throws JacksonException {
+    JsonArray jsonArray = JsonNodeValues.asJsonArray(OBJECT_MAPPER.readTree("[0,1,2,3,4,5,6,7,8,9]"));
+    JsonArray expected = Json.createReader(new StringReader("[0,1,2,3,4,5,6,7,8,9]")).readArray();
+
+    List<JsonValue> subList = jsonArray.subList(2, 8).subList(1, 5).subList(1, 3);
+    assertEquals(expected.subList(4, 6), subList);
+    assertEquals(2, subList.size());
+    assertEquals(Json.createValue(5), subList.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> subList.get(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> subList.get(-1));
+    assertThrows(IndexOutOfBoundsException.class, () -> jsonArray.subList(2, 8).subList(1, 7));
+    assertEquals(1, subList.indexOf(Json.createValue(5)));
+    assertEquals(-1, subList.indexOf(Json.createValue(6)));
+    assertTrue(subList.contains(Json.createValue(4)));
+    assertFalse(subList.contains(Json.createValue(3)));
+
+    List<JsonValue> collected = new ArrayList<>();
+    subList.forEach(collected::add);
+    assertEquals(expected.subList(4, 6), collected);
+    collected.clear();
+    jsonArray.forEach(collected::add);
+    assertEquals(expected, collected);
+
+    assertSame(jsonArray, jsonArray.getValuesAs(JsonValue.class));
+    List<JsonNumber> numbers = jsonArray.getValuesAs(JsonNumber.class);
+    assertEquals(expected.getValuesAs(JsonNumber.class), numbers);
+    assertEquals(9, numbers.get(9).intValue());
+
+    List<JsonString> strings = JsonNodeValues.asJsonArray(OBJECT_MAPPER.readTree("[\"a\",1]")).getValuesAs(JsonString.class);
+    assertEquals(2, strings.size());
+    assertEquals("a", strings.get(0).getString());
+    assertThrows(ClassCastException.class, () -> strings.get(1));
+    assertThrows(ClassCastException.class, () -> strings.forEach(JsonString::getString));
+  }
+
+  @Test
+  void primitiveArrays() throws JacksonException {
+    PrimitiveJsonArray numbers = (PrimitiveJsonArray) JsonNodeValues.asJsonArray(OBJECT_MAPPER.readTree("[1,2.5,-3,9223372036854775807]"));
+    assertArrayEquals(new int[] {1, 2, -3, -1}, numbers.getIntArray(NumberConversion.STRICT));
+    assertArrayEquals(new long[] {1L, 2L, -3L, Long.MAX_VALUE}, numbers.getLongArray(NumberConversion.STRICT));
+    assertArrayEquals(new double[] {1.0d, 2.5d, -3.0d, 9.223372036854775807E18d}, numbers.getDoubleArray(NumberConversion.STRICT));
+
+    long[] buffer = new long[6];
+    assertEquals(4, numbers.getLongArray(NumberConversion.STRICT, buffer, 2));
+    assertArrayEquals(new long[] {0L, 0L, 1L, 2L, -3L, Long.MAX_VALUE}, buffer);
+    assertThrows(IndexOutOfBoundsException.class, () -> numbers.getLongArray(NumberConversion.STRICT, buffer, 3));
+
+    PrimitiveJsonArray mixed = (PrimitiveJsonArray) JsonNodeValues.asJsonArray(OBJECT_MAPPER.readTree("[\"4.5\",true,false,null,{},[],\"x\"]"));
+    assertArrayEquals(new double[] {4.5d, 1.0d, 0.0d, 0.0d, 0.0d, 0.0d, 0.0d}, mixed.getDoubleArray(NumberConversion.LENIENT));
+    assertThrows(ClassCastException.class, () -> mixed.getIntArray(NumberConversion.STRICT));
+  }
+
+}